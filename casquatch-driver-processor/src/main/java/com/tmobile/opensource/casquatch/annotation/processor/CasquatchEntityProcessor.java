@@ -17,22 +17,33 @@
 package com.tmobile.opensource.casquatch.annotation.processor;
 
 import com.google.auto.service.AutoService;
+import com.tmobile.opensource.casquatch.CasquatchEntityRegistry;
 import com.tmobile.opensource.casquatch.CasquatchNamingConvention;
 import com.tmobile.opensource.casquatch.annotation.CasquatchEntity;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.*;
 import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.PrintWriter;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Processor for {@link com.tmobile.opensource.casquatch.annotation.CasquatchEntity} to create required sources
@@ -43,6 +54,31 @@ import java.util.Map;
 @Slf4j
 public class CasquatchEntityProcessor  extends CasquatchProcessorStarter {
 
+    private final List<String> factoryList = new ArrayList<>();
+    private final List<String> typeList = new ArrayList<>();
+    private boolean registryWritten = false;
+
+    /**
+     * Process the round and write the entity registry once the entities have been processed
+     * @param annotations set of annotations
+     * @param roundEnv environment for this processing round
+     * @return boolean representing success/fail
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        boolean result = super.process(annotations, roundEnv);
+        if(!registryWritten && !factoryList.isEmpty()) {
+            try {
+                writeEntityRegistry();
+                registryWritten = true;
+            } catch (Exception e) {
+                log.error("Failed to generate entity registry.", e);
+                return false;
+            }
+        }
+        return result;
+    }
+
     /**
      * Process the provided entity list.
      */
@@ -50,7 +86,10 @@ public class CasquatchEntityProcessor  extends CasquatchProcessorStarter {
     protected boolean process(Element element) {
         CasquatchEntity casquatchEntity = element.getAnnotation(com.tmobile.opensource.casquatch.annotation.CasquatchEntity.class);
         try {
-            if(casquatchEntity.generateFactory()) writeStatementFactory(getClassName(element),casquatchEntity.table());
+            if(casquatchEntity.generateFactory()) {
+                writeStatementFactory(getClassName(element),casquatchEntity.table());
+                if(!factoryList.contains(getClassName(element))) factoryList.add(getClassName(element));
+            }
             if(casquatchEntity.generateTests()) writeTests(getClassName(element),casquatchEntity.table());
         } catch (Exception e) {
             log.error("Failed to generate source files.", e);
@@ -59,6 +98,28 @@ public class CasquatchEntityProcessor  extends CasquatchProcessorStarter {
         return true;
     }
 
+    /**
+     * Create the entity registry mapping each entity to its statement factory and each UDT to its type codec and register it as a service
+     * @throws Exception exception generated while creating source
+     */
+    private void writeEntityRegistry() throws Exception {
+        List<String> entities = new ArrayList<>(factoryList);
+        Collections.sort(entities);
+        String registryName = CasquatchNamingConvention.packageToEntityRegistry(CasquatchNamingConvention.classToPackageName(entities.get(0)));
+
+        Map<String, Object> input = inputStart(registryName);
+        input.put("entities", entities);
+        List<String> types = new ArrayList<>(typeList);
+        Collections.sort(types);
+        input.put("types", types);
+        createSource(registryName, "EntityRegistry.ftl", input);
+
+        FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/"+CasquatchEntityRegistry.class.getName());
+        try (PrintWriter out = new PrintWriter(fileObject.openWriter())) {
+            out.println(registryName);
+        }
+    }
+
     /**
      * Create entity test for class
      * @param className Entity to create test for
@@ -85,9 +146,12 @@ public class CasquatchEntityProcessor  extends CasquatchProcessorStarter {
      */
     private void writeStatementFactory(String className, String tableName) throws Exception {
         Map<String, Object> input = inputStart(className);
-        Map<String,String> keyFields = new HashMap<>();
-        Map<String,String> nonKeyFields = new HashMap<>();
-        Map<String,String> udtFields = new HashMap<>();
+        //Ordering is significant as it defines the column index used for statement shapes and bind markers
+        Map<String,String> partitionKeyFields = new LinkedHashMap<>();
+        Map<Integer,Map.Entry<String,String>> clusteringFields = new TreeMap<>();
+        Map<String,String> nonKeyFields = new LinkedHashMap<>();
+        Map<String,String> udtFields = new LinkedHashMap<>();
+        Map<String,String> fieldTypes = new HashMap<>();
 
         List<String> imports = new ArrayList<>();
 
@@ -111,16 +175,17 @@ public class CasquatchEntityProcessor  extends CasquatchProcessorStarter {
                                 type=enclosedElement.asType().toString();
                             }
                             if (!imports.contains(type)) imports.add(type);
+                            fieldTypes.put(enclosedElement.getSimpleName().toString(),enclosedElement.asType().toString());
 
                             if(enclosedElement.getAnnotation(com.tmobile.opensource.casquatch.annotation.PartitionKey.class)!=null) {
-                                keyFields.put(enclosedElement.getSimpleName().toString(),type);
+                                partitionKeyFields.put(enclosedElement.getSimpleName().toString(),type);
                             }
                             else if(enclosedElement.getAnnotation(com.tmobile.opensource.casquatch.annotation.ClusteringColumn.class)!=null) {
-                                keyFields.put(enclosedElement.getSimpleName().toString(),type);
+                                clusteringFields.put(enclosedElement.getAnnotation(com.tmobile.opensource.casquatch.annotation.ClusteringColumn.class).value(),new AbstractMap.SimpleEntry<>(enclosedElement.getSimpleName().toString(),type));
                             }
                             else if(enclosedElement.getAnnotation(com.tmobile.opensource.casquatch.annotation.UDT.class)!=null) {
                                 udtFields.put(enclosedElement.getSimpleName().toString(),type);
-                                if (!imports.contains("com.datastax.oss.driver.api.core.data.UdtValue")) imports.add("com.datastax.oss.driver.api.core.data.UdtValue");
+                                if (!typeList.contains(type)) typeList.add(type);
                             }
                             else {
                                 nonKeyFields.put(enclosedElement.getSimpleName().toString(),type);
@@ -137,11 +202,26 @@ public class CasquatchEntityProcessor  extends CasquatchProcessorStarter {
         else {
             input.put("table", CasquatchNamingConvention.javaVariableToCql(CasquatchNamingConvention.classToVar(CasquatchNamingConvention.classToSimpleClass(className))));
         }
+        Map<String,String> keyFields = new LinkedHashMap<>(partitionKeyFields);
+        for(Map.Entry<String,String> clusteringField : clusteringFields.values()) {
+            keyFields.put(clusteringField.getKey(),clusteringField.getValue());
+        }
+
         input.put("imports",imports);
+        input.put("partitionKeyFields", partitionKeyFields);
         input.put("keyFields", keyFields);
         input.put("udtFields", udtFields);
         input.put("nonKeyFields", nonKeyFields);
+        Map<String,String> fields = new LinkedHashMap<>(keyFields);
+        fields.putAll(nonKeyFields);
+        fields.putAll(udtFields);
+        input.put("fields", fields);
+        input.put("fieldTypes", fieldTypes);
         createSource(CasquatchNamingConvention.classToStatementFactory(className),"StatementFactory.ftl",input);
+        createSource(CasquatchNamingConvention.classToKey(className),"EntityKey.ftl",input);
+        createSource(CasquatchNamingConvention.classToEntityMethods(className),"EntityMethods.ftl",input);
+        createSource(CasquatchNamingConvention.classToJsonSerializer(className),"EntityJsonSerializer.ftl",input);
+        createSource(CasquatchNamingConvention.classToJsonDeserializer(className),"EntityJsonDeserializer.ftl",input);
     }
 
 }
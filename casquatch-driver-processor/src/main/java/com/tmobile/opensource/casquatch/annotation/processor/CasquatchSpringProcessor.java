@@ -88,12 +88,20 @@ public class CasquatchSpringProcessor extends CasquatchProcessorStarter {
 
         Class casquatch = Class.forName("com.tmobile.opensource.casquatch.CasquatchDao");
         Map<String,Method> restMethods = new HashMap<>();
+        Map<String,Method> asyncMethods = new HashMap<>();
         for(Method method : casquatch.getDeclaredMethods()) {
             if(method.isAnnotationPresent(com.tmobile.opensource.casquatch.annotation.Rest.class)) {
                 restMethods.put(method.getAnnotation(com.tmobile.opensource.casquatch.annotation.Rest.class).value(),method);
+                try {
+                    asyncMethods.put(method.getAnnotation(com.tmobile.opensource.casquatch.annotation.Rest.class).value(),casquatch.getMethod(method.getName()+"Async",method.getParameterTypes()));
+                }
+                catch (NoSuchMethodException e) {
+                    log.trace("No async method for {}",method.getName());
+                }
             }
         }
         input.put("restMethods",restMethods);
+        input.put("asyncMethods",asyncMethods);
 
         createSource(CasquatchNamingConvention.classToRestDao(className),"EntityRestDao.ftl",input);
     }
@@ -28,6 +28,7 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -55,8 +56,8 @@ public class CasquatchTypeProcessor extends CasquatchProcessorStarter {
     }
 
     /**
-     * Creates a Statement Factory class
-     * @param className object holding an entity class
+     * Creates a Type Codec class
+     * @param className object holding a type class
      * @throws Exception exception generated while creating source
      */
     private void writeFactory(String className) throws Exception {
@@ -64,7 +65,8 @@ public class CasquatchTypeProcessor extends CasquatchProcessorStarter {
         input.put("package", CasquatchNamingConvention.classToPackageName(className));
         input.put("class", className);
         input.put("naming", new CasquatchNamingConvention());
-        Map<String,String> fields = new HashMap<>();
+        //Ordering is significant as it defines the field index used by the codec
+        Map<String,String> fields = new LinkedHashMap<>();
 
         for (Element element : roundEnv.getRootElements()) {
             if (element.getSimpleName().toString().equals(CasquatchNamingConvention.classToSimpleClass(className))) {
@@ -82,7 +84,7 @@ public class CasquatchTypeProcessor extends CasquatchProcessorStarter {
         }
 
         input.put("fields", fields);
-        createSource(CasquatchNamingConvention.classToTypeFactory(className),"TypeFactory.ftl",input);
+        createSource(CasquatchNamingConvention.classToTypeCodec(className),"TypeCodec.ftl",input);
     }
 
 }
@@ -19,7 +19,6 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.CqlSessionBuilder;
 import com.datastax.oss.driver.internal.core.config.typesafe.DefaultDriverConfigLoader;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueFactory;
@@ -115,11 +114,11 @@ public class ${naming.classToSimpleClass(class)} {
     }
 
     /**
-     * Provides access to the underlying session builder based on Casquatch config
+     * Provides access to the underlying session builder based on Casquatch config with the generated type codecs added
      * @return CqlSessionBuilder object
      */
     public CqlSessionBuilder sessionBuilder() {
-        return CqlSession.builder().withConfigLoader(new DefaultDriverConfigLoader(this::getConfig));
+        return CqlSession.builder().withConfigLoader(new DefaultDriverConfigLoader(this::getConfig)).addTypeCodecs(AbstractTypeCodec.loadTypeCodecs());
     }
 
     /**
@@ -150,7 +149,7 @@ public class ${naming.classToSimpleClass(class)} {
             configString.put(entry.getKey(),entry.getValue().render());
         }
         try {
-            return new ObjectMapper().writeValueAsString(configString);
+            return CasquatchObjectMapper.getObjectMapper().writeValueAsString(configString);
         } catch (JsonProcessingException e) {
             return "Unable to convert to JSON";
         }
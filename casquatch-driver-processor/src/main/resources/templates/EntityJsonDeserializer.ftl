@@ -0,0 +1,81 @@
+/*
+* Copyright 2018 T-Mobile US, Inc.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+<#if package?has_content>
+package ${package};
+</#if>
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.tmobile.opensource.casquatch.CasquatchJsonDeserializer;
+
+import java.io.IOException;
+<#assign readers = {
+    "java.lang.String":"readString",
+    "java.lang.Integer":"readInteger",
+    "java.lang.Long":"readLong",
+    "java.lang.Double":"readDouble",
+    "java.lang.Float":"readFloat",
+    "java.math.BigDecimal":"readBigDecimal",
+    "java.lang.Boolean":"readBoolean",
+    "java.util.UUID":"readUUID"
+}>
+
+/**
+ * Generated: Json deserializer of ${naming.classToSimpleClass(class)}
+ */
+public final class ${naming.classToJsonDeserializer(naming.classToSimpleClass(class))} extends CasquatchJsonDeserializer<${naming.classToSimpleClass(class)}> {
+
+    private static final long serialVersionUID = 1L;
+
+<#list fields as field,type>
+<#if !readers[type]??>
+<#if fieldTypes[field]?contains("<")>
+    private static final JavaType ${naming.javaVariableToCql(field)?upper_case} = TypeFactory.defaultInstance().constructType(new TypeReference<${fieldTypes[field]}>() {});
+<#else>
+    private static final JavaType ${naming.javaVariableToCql(field)?upper_case} = TypeFactory.defaultInstance().constructType(${fieldTypes[field]}.class);
+</#if>
+</#if>
+</#list>
+
+    public ${naming.classToJsonDeserializer(naming.classToSimpleClass(class))}() {
+        super(${naming.classToSimpleClass(class)}.class);
+    }
+
+    @Override
+    protected ${naming.classToSimpleClass(class)} newEntity() {
+        return new ${naming.classToSimpleClass(class)}();
+    }
+
+    @Override
+    protected boolean deserializeField(${naming.classToSimpleClass(class)} obj, String name, JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch(name) {
+<#list fields as field,type>
+            case "${naming.javaVariableToJson(field)}":
+<#if readers[type]??>
+                obj.${naming.javaVariableToJavaSet(field)}(${readers[type]}(p, ctxt));
+<#else>
+                obj.${naming.javaVariableToJavaSet(field)}(readValue(p, ctxt, ${naming.javaVariableToCql(field)?upper_case}));
+</#if>
+                return true;
+</#list>
+            default:
+                return false;
+        }
+    }
+}
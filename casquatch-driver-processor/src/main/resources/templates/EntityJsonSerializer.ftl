@@ -0,0 +1,48 @@
+/*
+* Copyright 2018 T-Mobile US, Inc.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+<#if package?has_content>
+package ${package};
+</#if>
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.tmobile.opensource.casquatch.CasquatchJsonSerializer;
+
+import java.io.IOException;
+
+/**
+ * Generated: Json serializer of ${naming.classToSimpleClass(class)}
+ */
+public final class ${naming.classToJsonSerializer(naming.classToSimpleClass(class))} extends CasquatchJsonSerializer<${naming.classToSimpleClass(class)}> {
+
+    private static final long serialVersionUID = 1L;
+
+<#list fields as field,type>
+    private static final SerializedString ${naming.javaVariableToCql(field)?upper_case} = new SerializedString("${naming.javaVariableToJson(field)}");
+</#list>
+
+    public ${naming.classToJsonSerializer(naming.classToSimpleClass(class))}() {
+        super(${naming.classToSimpleClass(class)}.class);
+    }
+
+    @Override
+    protected void serializeFields(${naming.classToSimpleClass(class)} obj, JsonGenerator gen, SerializerProvider provider, boolean writeNulls) throws IOException {
+<#list fields as field,type>
+        writeField(gen, provider, writeNulls, ${naming.javaVariableToCql(field)?upper_case}, obj.${naming.javaVariableToJavaGet(field)}());
+</#list>
+    }
+}
@@ -0,0 +1,77 @@
+/*
+* Copyright 2018 T-Mobile US, Inc.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+<#if package?has_content>
+package ${package};
+</#if>
+
+import java.util.Objects;
+<#list imports as import>
+import ${import};
+</#list>
+
+/**
+ * Generated: Immutable primary key of ${naming.classToSimpleClass(class)} with a precomputed hash
+ */
+public final class ${naming.classToKey(naming.classToSimpleClass(class))} {
+
+<#list keyFields as field,type>
+    private final ${naming.classToSimpleClass(type)} ${field};
+</#list>
+    private final int keyHash;
+
+    /**
+     * Generated: Initialize from the key columns of an object
+     * @param ${naming.classToVar(naming.classToSimpleClass(class))} populated object
+     */
+    public ${naming.classToKey(naming.classToSimpleClass(class))}(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}) {
+<#list keyFields as field,type>
+        this.${field} = ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}();
+</#list>
+        int keyHash = 1;
+<#list keyFields as field,type>
+        keyHash = 31 * keyHash + Objects.hashCode(this.${field});
+</#list>
+        this.keyHash = keyHash;
+    }
+
+<#list keyFields as field,type>
+    public ${naming.classToSimpleClass(type)} ${naming.javaVariableToJavaGet(field)}() {
+        return this.${field};
+    }
+
+</#list>
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ${naming.classToKey(naming.classToSimpleClass(class))})) {
+            return false;
+        }
+        ${naming.classToKey(naming.classToSimpleClass(class))} other = (${naming.classToKey(naming.classToSimpleClass(class))}) o;
+        return this.keyHash == other.keyHash<#list keyFields as field,type> && Objects.equals(this.${field}, other.${field})</#list>;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.keyHash;
+    }
+
+    @Override
+    public String toString() {
+        return "${naming.classToKey(naming.classToSimpleClass(class))}(<#list keyFields as field,type>${field}=" + this.${field} + "<#sep>, </#sep></#list>)";
+    }
+}
@@ -0,0 +1,58 @@
+/*
+* Copyright 2018 T-Mobile US, Inc.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+<#if package?has_content>
+package ${package};
+</#if>
+
+import com.tmobile.opensource.casquatch.CasquatchEntityMethods;
+import com.tmobile.opensource.casquatch.CasquatchObjectMapper;
+
+import java.util.Objects;
+
+/**
+ * Generated: Reflection free equals, hashCode, toString and keys of ${naming.classToSimpleClass(class)}
+ */
+public final class ${naming.classToEntityMethods(naming.classToSimpleClass(class))} implements CasquatchEntityMethods<${naming.classToSimpleClass(class)}> {
+
+    @Override
+    public boolean equals(${naming.classToSimpleClass(class)} obj, ${naming.classToSimpleClass(class)} other) {
+        return <#list fields as field,type>Objects.equals(obj.${naming.javaVariableToJavaGet(field)}(), other.${naming.javaVariableToJavaGet(field)}())<#sep> &&
+                </#sep></#list>;
+    }
+
+    @Override
+    public int hashCode(${naming.classToSimpleClass(class)} obj) {
+        int hash = 1;
+<#list fields as field,type>
+        hash = 31 * hash + Objects.hashCode(obj.${naming.javaVariableToJavaGet(field)}());
+</#list>
+        return hash;
+    }
+
+    @Override
+    public String toString(${naming.classToSimpleClass(class)} obj) {
+        return CasquatchObjectMapper.toJson(obj);
+    }
+
+    @Override
+    public ${naming.classToSimpleClass(class)} keys(${naming.classToSimpleClass(class)} obj) {
+        ${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))} = new ${naming.classToSimpleClass(class)}();
+<#list keyFields as field,type>
+        ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaSet(field)}(obj.${naming.javaVariableToJavaGet(field)}());
+</#list>
+        return ${naming.classToVar(naming.classToSimpleClass(class))};
+    }
+}
@@ -0,0 +1,56 @@
+/*
+* Copyright 2018 T-Mobile US, Inc.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+<#if package?has_content>
+package ${package};
+</#if>
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.tmobile.opensource.casquatch.AbstractCasquatchEntity;
+import com.tmobile.opensource.casquatch.AbstractCasquatchType;
+import com.tmobile.opensource.casquatch.AbstractStatementFactory;
+import com.tmobile.opensource.casquatch.AbstractTypeCodec;
+import com.tmobile.opensource.casquatch.CasquatchEntityRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class ${naming.classToSimpleClass(class)} implements CasquatchEntityRegistry {
+
+    private static final Map<Class<? extends AbstractCasquatchEntity>, Function<CqlSession, AbstractStatementFactory<?>>> STATEMENT_FACTORIES = new LinkedHashMap<>();
+    private static final Map<Class<? extends AbstractCasquatchType>, Supplier<AbstractTypeCodec<?>>> TYPE_CODECS = new LinkedHashMap<>();
+
+    static {
+<#list entities as entity>
+        STATEMENT_FACTORIES.put(${entity}.class, ${naming.classToStatementFactory(entity)}::new);
+</#list>
+<#list types as type>
+        TYPE_CODECS.put(${type}.class, ${naming.classToTypeCodec(type)}::new);
+</#list>
+    }
+
+    @Override
+    public Map<Class<? extends AbstractCasquatchEntity>, Function<CqlSession, AbstractStatementFactory<?>>> getStatementFactories() {
+        return STATEMENT_FACTORIES;
+    }
+
+    @Override
+    public Map<Class<? extends AbstractCasquatchType>, Supplier<AbstractTypeCodec<?>>> getTypeCodecs() {
+        return TYPE_CODECS;
+    }
+}
@@ -27,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.tmobile.opensource.casquatch.CasquatchDao;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping(value="${restApi}/${naming.classToSimpleClass(class)}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -36,10 +37,32 @@ public class ${naming.classToRestDao(naming.classToSimpleClass(class))} {
 
 <#list restMethods as api,method>
     @RequestMapping(value = "${api}", method= RequestMethod.POST)
+    <#if asyncMethods[api]??>
     <#if method.returnType.simpleName=="AbstractCasquatchEntity">
+    public CompletableFuture<Response<${naming.classToSimpleClass(class)}>> ${naming.apiToRestMethod(api)}(@RequestBody Request<${naming.classToSimpleClass(class)}> request) {
+        return casquatchDao.${asyncMethods[api].name}(${naming.classToSimpleClass(class)}.class,request.getPayload(),request.getQueryOptions()).thenApply(result -> new Response<${naming.classToSimpleClass(class)}>(result));
+    }
+    <#elseif method.returnType.simpleName=="Page">
+    public CompletableFuture<Response<${naming.classToSimpleClass(class)}>> ${naming.apiToRestMethod(api)}(@RequestBody Request<${naming.classToSimpleClass(class)}> request) {
+        return casquatchDao.${asyncMethods[api].name}(${naming.classToSimpleClass(class)}.class,request.getPayload(),request.getPagingState(),request.getQueryOptions()).thenApply(result -> new Response<${naming.classToSimpleClass(class)}>(result));
+    }
+    <#elseif method.returnType.simpleName=="Void">
+    public CompletableFuture<Response<Void>> ${naming.apiToRestMethod(api)}(@RequestBody Request<${naming.classToSimpleClass(class)}> request) {
+        return casquatchDao.${asyncMethods[api].name}(${naming.classToSimpleClass(class)}.class,request.getPayload(),request.getQueryOptions()).thenApply(result -> new Response<Void>(result, Response.Status.SUCCESS));
+    }
+    <#else>
+    public CompletableFuture<Response<${method.returnType.simpleName}>> ${naming.apiToRestMethod(api)}(@RequestBody Request<${naming.classToSimpleClass(class)}> request) {
+        return casquatchDao.${asyncMethods[api].name}(${naming.classToSimpleClass(class)}.class,request.getPayload(),request.getQueryOptions()).thenApply(result -> new Response<${method.returnType.simpleName}>(result));
+    }
+    </#if>
+    <#elseif method.returnType.simpleName=="AbstractCasquatchEntity">
     public Response<${naming.classToSimpleClass(class)}> ${naming.apiToRestMethod(api)}(@RequestBody Request<${naming.classToSimpleClass(class)}> request) {
         return new Response<${naming.classToSimpleClass(class)}>(casquatchDao.${method.name}(${naming.classToSimpleClass(class)}.class,request.getPayload(),request.getQueryOptions()));
     }
+    <#elseif method.returnType.simpleName=="Page">
+    public Response<${naming.classToSimpleClass(class)}> ${naming.apiToRestMethod(api)}(@RequestBody Request<${naming.classToSimpleClass(class)}> request) {
+        return new Response<${naming.classToSimpleClass(class)}>(casquatchDao.${method.name}(${naming.classToSimpleClass(class)}.class,request.getPayload(),request.getPagingState(),request.getQueryOptions()));
+    }
     <#elseif method.returnType.simpleName=="Void">
     public Response<Void> ${naming.apiToRestMethod(api)}(@RequestBody Request<${naming.classToSimpleClass(class)}> request) {
         return new Response<Void>(casquatchDao.${method.name}(${naming.classToSimpleClass(class)}.class,request.getPayload(),request.getQueryOptions()), Response.Status.SUCCESS);
@@ -19,50 +19,45 @@ package ${package};
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.data.GettableByName;
-import com.datastax.oss.driver.api.querybuilder.delete.Delete;
-import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
-import com.datastax.oss.driver.api.querybuilder.select.Select;
 import com.tmobile.opensource.casquatch.AbstractStatementFactory;
 import com.tmobile.opensource.casquatch.CasquatchNamingConvention;
 import com.tmobile.opensource.casquatch.QueryOptions;
 import com.tmobile.opensource.casquatch.DriverException;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Arrays;
+import java.util.BitSet;
 <#list imports as import>
 import ${import};
 </#list>
 
-import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
-
 @Slf4j
 public class ${naming.classToStatementFactory(naming.classToSimpleClass(class))} extends AbstractStatementFactory<${naming.classToSimpleClass(class)}> {
 
-<#if udtFields?has_content>
-    <#list udtFields as field,type>
-    protected ${naming.classToTypeFactory(naming.classToSimpleClass(type))} ${naming.classToVar(naming.classToTypeFactory(naming.classToSimpleClass(type)))};
-    </#list>
-</#if>
+    private static final String[] COLUMNS = new String[] {
+<#list keyFields as field,type>
+            "${naming.javaVariableToCql(field)}",
+</#list>
+<#list nonKeyFields as field,type>
+            "${naming.javaVariableToCql(field)}",
+</#list>
+<#list udtFields as field,type>
+            "${naming.javaVariableToCql(field)}",
+</#list>
+    };
 
     public ${naming.classToStatementFactory(naming.classToSimpleClass(class))}(CqlSession session) {
         super(${naming.classToSimpleClass(class)}.class,session);
-<#if udtFields?has_content>
-    <#list udtFields as field,type>
-        ${naming.classToVar(naming.classToTypeFactory(naming.classToSimpleClass(type)))} = new ${naming.classToTypeFactory(naming.classToSimpleClass(type))}(
-                session.getMetadata()
-                        .getKeyspace(session.getKeyspace().orElseThrow(() -> new DriverException(DriverException.CATEGORIES.CASQUATCH_INVALID_CONFIGURATION, "Keyspace not defined")))
-                        .flatMap(ks -> ks.getUserDefinedType("${naming.javaClassToCql(naming.classToSimpleClass(type))}")).orElseThrow(() -> new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_GENERATED_CLASS, "Missing UDT definition"))
-        );
-    </#list>
-</#if>
     }
 
     @Override
-    protected Select selectWhereObject(Select select, ${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, QueryOptions options) {
-
+    protected BitSet selectColumns(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, QueryOptions options) {
+        BitSet columns = new BitSet(COLUMNS.length);
 <#list keyFields as field,type>
         if(${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}()!=null) {
-            select=select.whereColumn("${naming.javaVariableToCql(field)}").isEqualTo(bindMarker());
+            columns.set(${field?index?c});
         }
 </#list>
         if(!options.getIgnoreNonPrimaryKeys()) {
@@ -72,49 +67,147 @@ public class ${naming.classToStatementFactory(naming.classToSimpleClass(class))}
                     log.warn("Ignorning column ${field}. ${type} is not a supported query column type");
                 }
                 else {
-                    select=select.whereColumn("${naming.javaVariableToCql(field)}").isEqualTo(bindMarker());
+                    columns.set(${(keyFields?size+field?index)?c});
                 }
             }
 </#list>
 <#list udtFields as field,type>
             if(${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}()!=null) {
-                select=select.whereColumn("${naming.javaVariableToCql(field)}").isEqualTo(bindMarker());
+                columns.set(${(keyFields?size+nonKeyFields?size+field?index)?c});
             }
 </#list>
         }
-        return select;
+        return columns;
     }
 
     @Override
-    protected RegularInsert insertObject(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, QueryOptions options) {
-        RegularInsert insert=null;
+    protected BitSet insertColumns(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, QueryOptions options) {
+        BitSet columns = new BitSet(COLUMNS.length);
 <#list keyFields as field,type>
         if(${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("${naming.javaVariableToCql(field)}",bindMarker());
+            columns.set(${field?index?c});
         }
 </#list>
 <#list nonKeyFields as field,type>
         if(${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("${naming.javaVariableToCql(field)}",bindMarker());
+            columns.set(${(keyFields?size+field?index)?c});
         }
 </#list>
 <#list udtFields as field,type>
         if(${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("${naming.javaVariableToCql(field)}",bindMarker());
+            columns.set(${(keyFields?size+nonKeyFields?size+field?index)?c});
         }
 </#list>
-        return insert;
+        return columns;
     }
 
     @Override
-    protected Delete deleteObject(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, QueryOptions options) {
-        Delete delete=null;
+    protected BitSet deleteColumns(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, QueryOptions options) {
+        BitSet columns = new BitSet(COLUMNS.length);
 <#list keyFields as field,type>
         if(${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}()!=null) {
-            delete=(delete==null?deleteStart:delete).whereColumn("${naming.javaVariableToCql(field)}").isEqualTo(bindMarker());
-       }
+            columns.set(${field?index?c});
+        }
+</#list>
+        return columns;
+    }
+
+    @Override
+    public String[] getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected Object getColumnValue(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, int index) {
+        switch(index) {
+<#list keyFields as field,type>
+            case ${field?index?c}:
+                return ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}();
+</#list>
+<#list nonKeyFields as field,type>
+            case ${(keyFields?size+field?index)?c}:
+                return ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}();
 </#list>
-        return delete;
+<#list udtFields as field,type>
+            case ${(keyFields?size+nonKeyFields?size+field?index)?c}:
+                return ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}();
+</#list>
+            default:
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Invalid column " + index);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void setColumnValue(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, int index, Object value) {
+        switch(index) {
+<#list keyFields as field,type>
+            case ${field?index?c}:
+                ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaSet(field)}((${naming.classToSimpleClass(type)}) value);
+                break;
+</#list>
+<#list nonKeyFields as field,type>
+            case ${(keyFields?size+field?index)?c}:
+                ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaSet(field)}((${naming.classToSimpleClass(type)}) value);
+                break;
+</#list>
+<#list udtFields as field,type>
+            case ${(keyFields?size+nonKeyFields?size+field?index)?c}:
+                ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaSet(field)}((${naming.classToSimpleClass(type)}) value);
+                break;
+</#list>
+            default:
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Invalid column " + index);
+        }
+    }
+
+    @Override
+    protected ${naming.classToSimpleClass(class)} newEntity() {
+        return new ${naming.classToSimpleClass(class)}();
+    }
+
+    @Override
+    protected Object partitionKey(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}) {
+        return Arrays.asList(<#list partitionKeyFields as field,type>${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}()<#sep>, </#sep></#list>);
+    }
+
+    @Override
+    protected ${naming.classToKey(naming.classToSimpleClass(class))} key(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}) {
+        return new ${naming.classToKey(naming.classToSimpleClass(class))}(${naming.classToVar(naming.classToSimpleClass(class))});
+    }
+
+    @Override
+    public int getKeyColumnCount() {
+        return ${keyFields?size?c};
+    }
+
+    @Override
+    public int getPartitionKeyCount() {
+        return ${partitionKeyFields?size?c};
+    }
+
+    @Override
+    protected Object getKeyValue(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, int index) {
+        switch(index) {
+<#list keyFields as field,type>
+            case ${field?index?c}:
+                return ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}();
+</#list>
+            default:
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Invalid key column " + index);
+        }
+    }
+
+    @Override
+    protected Class<?> getKeyType(int index) {
+        switch(index) {
+<#list keyFields as field,type>
+            case ${field?index?c}:
+                return ${type}.class;
+</#list>
+            default:
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Invalid key column " + index);
+        }
     }
 
     @Override
@@ -123,29 +216,58 @@ public class ${naming.classToStatementFactory(naming.classToSimpleClass(class))}
     }
 
     @Override
-    protected BoundStatementBuilder bindObject(BoundStatementBuilder boundStatementBuilder, ${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, QueryOptions options) {
+    protected BoundStatementBuilder bindObject(BoundStatementBuilder boundStatementBuilder, ${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, BitSet columns) {
+        int index=0;
 <#list keyFields as field,type>
-        if(${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}()!=null || options.getPersistNulls()) {
-            boundStatementBuilder = bindIfMarked(boundStatementBuilder,"${naming.javaVariableToCql(field)}", ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}(), ${type}.class);
+        if(columns.get(${field?index?c})) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}(), ${type}.class);
         }
 </#list>
-        if(!options.getIgnoreNonPrimaryKeys()) {
 <#list nonKeyFields as field,type>
-            if(${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = bindIfMarked(boundStatementBuilder,"${naming.javaVariableToCql(field)}", ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}(), ${type}.class);
-            }
+        if(columns.get(${(keyFields?size+field?index)?c})) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}(), ${type}.class);
+        }
 </#list>
 <#list udtFields as field,type>
-            if(${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}()!=null || options.getPersistNulls()) {
-                boundStatementBuilder=bindIfMarked(boundStatementBuilder,"${naming.javaVariableToCql(field)}",${naming.classToVar(naming.classToTypeFactory(naming.classToSimpleClass(type)))}.toUdtValue(${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}()), UdtValue.class);
-            }
-</#list>
+        if(columns.get(${(keyFields?size+nonKeyFields?size+field?index)?c})) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}(), ${type}.class);
         }
+</#list>
         return boundStatementBuilder;
     }
 
     @Override
     public ${naming.classToSimpleClass(class)} map(GettableByName source) {
+        int[] indexes = resolveColumnIndexes(source);
+        if(indexes==null) {
+            return mapByName(source);
+        }
+        Row row = (Row) source;
+        ${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))} = new ${naming.classToSimpleClass(class)}();
+<#list keyFields as field,type>
+        if(!row.isNull(indexes[${field?index?c}])) {
+            ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaSet(field)}(row.get(indexes[${field?index?c}],${naming.classToSimpleClass(type)}.class));
+        }
+</#list>
+<#list nonKeyFields as field,type>
+        if(!row.isNull(indexes[${(keyFields?size+field?index)?c}])) {
+            ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaSet(field)}(row.get(indexes[${(keyFields?size+field?index)?c}],${naming.classToSimpleClass(type)}.class));
+        }
+</#list>
+<#list udtFields as field,type>
+        if(!row.isNull(indexes[${(keyFields?size+nonKeyFields?size+field?index)?c}])) {
+            ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaSet(field)}(row.get(indexes[${(keyFields?size+nonKeyFields?size+field?index)?c}],${naming.classToSimpleClass(type)}.class));
+        }
+</#list>
+        return ${naming.classToVar(naming.classToSimpleClass(class))};
+    }
+
+    /**
+     * Map a source to an object by column name
+     * @param source source to map
+     * @return populated object
+     */
+    protected ${naming.classToSimpleClass(class)} mapByName(GettableByName source) {
         ${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))} = new ${naming.classToSimpleClass(class)}();
 <#list keyFields as field,type>
         if(!source.isNull("${naming.javaVariableToCql(field)}")) {
@@ -159,7 +281,7 @@ public class ${naming.classToStatementFactory(naming.classToSimpleClass(class))}
 </#list>
 <#list udtFields as field,type>
         if(!source.isNull("${naming.javaVariableToCql(field)}")) {
-            ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaSet(field)}(${naming.classToVar(naming.classToTypeFactory(naming.classToSimpleClass(type)))}.fromUdtValue(source.getUdtValue("${naming.javaVariableToCql(field)}")));
+            ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaSet(field)}(source.get("${naming.javaVariableToCql(field)}",${naming.classToSimpleClass(type)}.class));
         }
 </#list>
         return ${naming.classToVar(naming.classToSimpleClass(class))};
@@ -0,0 +1,73 @@
+/*
+* Copyright 2018 T-Mobile US, Inc.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+*     http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+<#if package?has_content>
+package ${package};
+</#if>
+
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.tmobile.opensource.casquatch.AbstractTypeCodec;
+import com.tmobile.opensource.casquatch.DriverException;
+
+public class ${naming.classToTypeCodec(naming.classToSimpleClass(class))} extends AbstractTypeCodec<${naming.classToSimpleClass(class)}> {
+
+    private static final String[] FIELDS = new String[] {
+<#list fields as field,type>
+            "${naming.javaVariableToCql(field)}",
+</#list>
+    };
+
+    private static final GenericType<?>[] FIELD_TYPES = new GenericType<?>[] {
+<#list fields as field,type>
+            new GenericType<${type}>() {},
+</#list>
+    };
+
+    public ${naming.classToTypeCodec(naming.classToSimpleClass(class))}() {
+        super(${naming.classToSimpleClass(class)}.class, "${naming.javaClassToCql(naming.classToSimpleClass(class))}", FIELDS, FIELD_TYPES);
+    }
+
+    @Override
+    protected ${naming.classToSimpleClass(class)} newInstance() {
+        return new ${naming.classToSimpleClass(class)}();
+    }
+
+    @Override
+    protected Object getField(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, int index) {
+        switch(index) {
+<#list fields as field,type>
+            case ${field?index?c}:
+                return ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaGet(field)}();
+</#list>
+            default:
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Invalid field " + index);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void setField(${naming.classToSimpleClass(class)} ${naming.classToVar(naming.classToSimpleClass(class))}, int index, Object value) {
+        switch(index) {
+<#list fields as field,type>
+            case ${field?index?c}:
+                ${naming.classToVar(naming.classToSimpleClass(class))}.${naming.javaVariableToJavaSet(field)}((${type}) value);
+                break;
+</#list>
+            default:
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Invalid field " + index);
+        }
+    }
+}
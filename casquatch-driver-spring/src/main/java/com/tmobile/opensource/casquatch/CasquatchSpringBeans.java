@@ -53,4 +53,13 @@ public class CasquatchSpringBeans {
         return this.dao;
     }
 
+    /**
+     * Create the jackson module of the generated entity serializers. Spring Boot registers module beans on its ObjectMapper
+     * @return casquatch jackson module
+     */
+    @Bean
+    public CasquatchJacksonModule casquatchJacksonModule() {
+        return new CasquatchJacksonModule();
+    }
+
 }
\ No newline at end of file
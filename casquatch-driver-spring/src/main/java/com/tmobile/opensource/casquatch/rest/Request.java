@@ -17,7 +17,7 @@
 package com.tmobile.opensource.casquatch.rest;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tmobile.opensource.casquatch.CasquatchObjectMapper;
 import com.tmobile.opensource.casquatch.QueryOptions;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -38,6 +38,8 @@ public class Request<T> {
 
     private T payload;
 
+    private String pagingState;
+
     /**
      * Constructor with payload
      * @param payload request payload
@@ -61,7 +63,7 @@ public class Request<T> {
      */
     public String toString() {
         try {
-            return new ObjectMapper().writeValueAsString(this);
+            return CasquatchObjectMapper.getObjectMapper().writeValueAsString(this);
         } catch (JsonProcessingException e) {
             return "Unable to convert to JSON";
         }
@@ -17,7 +17,8 @@
 package com.tmobile.opensource.casquatch.rest;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tmobile.opensource.casquatch.CasquatchObjectMapper;
+import com.tmobile.opensource.casquatch.Page;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -52,6 +53,7 @@ public class Response<T> {
 
     private String payloadClass;
     private List<T> payload;
+    private String pagingState;
     private Date timestamp = new Date();
 
     /**
@@ -85,6 +87,15 @@ public class Response<T> {
         this.addPayload(payload);
     }
 
+    /**
+     * Construct Response object with the items and paging state of a page. Determine status based on if page has data
+     * @param page page of results
+     */
+    public Response(Page<? extends T> page) {
+        this.addPayload(new ArrayList<T>(page.getItems()));
+        this.pagingState=page.getPagingState();
+    }
+
     /**
      * Construct Response object with provided payload and specified status.
      * @param payload payload object
@@ -136,7 +147,7 @@ public class Response<T> {
      */
     public String toString() {
         try {
-            return new ObjectMapper().writeValueAsString(this);
+            return CasquatchObjectMapper.getObjectMapper().writeValueAsString(this);
         } catch (JsonProcessingException e) {
             return "Unable to convert to JSON";
         }
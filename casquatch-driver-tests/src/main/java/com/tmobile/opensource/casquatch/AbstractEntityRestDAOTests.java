@@ -157,6 +157,18 @@ public abstract class AbstractEntityRestDAOTests<E extends AbstractCasquatchEnti
 
     }
 
+    @Test
+    public void testGetPage() throws Exception {
+
+        E payload = podamFactory.manufacturePojoWithFullData(this.entityClass);
+        this.getDao().save(this.entityClass,payload);
+
+        doApi("getPage",new Request<>(payload),new Response<>(payload));
+
+        this.getDao().delete(this.entityClass,payload);
+
+    }
+
     @Test
     public void testSave() throws Exception {
 
@@ -25,9 +25,14 @@ import uk.co.jemos.podam.api.PodamFactory;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -234,6 +239,26 @@ public abstract class AbstractEntityTests<E extends AbstractCasquatchEntity>{
         cleanObject(objectList);
     }
 
+    @Test
+    public void testStreamAllById() {
+        E obj = prepObject();
+
+        assertTrue(this.getCasquatchDao().streamAllById(this.entityClass, obj).anyMatch(obj::equals));
+
+        cleanObject(obj);
+    }
+
+    @Test
+    public void testForEachById() {
+        E obj = prepObject();
+
+        List<E> objectList = new ArrayList<>();
+        this.getCasquatchDao().forEachById(this.entityClass, obj, objectList::add);
+        assertTrue(objectList.contains(obj));
+
+        cleanObject(obj);
+    }
+
     @Test
     public void testGetById() {
         E obj = prepObject();
@@ -244,6 +269,135 @@ public abstract class AbstractEntityTests<E extends AbstractCasquatchEntity>{
         cleanObject(obj);
     }
 
+    @Test
+    public void testGetByIdAsync() throws Exception {
+        E obj = prepObject();
+
+        E tstObj = this.getCasquatchDao().getByIdAsync(this.entityClass,obj).get(10, TimeUnit.SECONDS);
+        assertEquals(obj, tstObj);
+
+        cleanObject(obj);
+    }
+
+    @Test
+    public void testGetAllByIdAsync() throws Exception {
+        List<E> objectList = prepObject(5);
+
+        List<E> testList = this.getCasquatchDao().getAllByIdAsync(this.entityClass, this.entityClass.newInstance(),10).get(10, TimeUnit.SECONDS);
+        assertTrue(testList.size()>=5);
+
+        cleanObject(objectList);
+    }
+
+    @Test
+    public void testExistsByIdAsync() throws Exception {
+        E obj = prepObject();
+
+        assertTrue(this.getCasquatchDao().existsByIdAsync(this.entityClass,obj).get(10, TimeUnit.SECONDS));
+
+        cleanObject(obj);
+    }
+
+    @Test
+    public void testSaveASyncAllColumns() throws Exception {
+        E obj = podamFactory.manufacturePojoWithFullData(this.entityClass);
+
+        this.getCasquatchDao().saveAsync(this.entityClass, obj).get(10, TimeUnit.SECONDS);
+        assertEquals(obj, this.getCasquatchDao().getById(this.entityClass,obj));
+
+        cleanObject(obj);
+    }
+
+    @Test
+    public void testSaveAllAndDeleteAll() {
+        List<E> objects = new ArrayList<>();
+        for(int i=0;i<5;i++) {
+            objects.add(podamFactory.manufacturePojoWithFullData(this.entityClass));
+        }
+
+        this.getCasquatchDao().saveAll(this.entityClass, objects);
+        for(E obj : objects) {
+            assertEquals(obj, this.getCasquatchDao().getById(this.entityClass,obj));
+        }
+
+        this.getCasquatchDao().deleteAll(this.entityClass, objects);
+        for(E obj : objects) {
+            assertFalse(this.getCasquatchDao().existsById(this.entityClass,obj));
+        }
+    }
+
+    @Test
+    public void testSaveAllAsync() throws Exception {
+        List<E> objects = new ArrayList<>();
+        for(int i=0;i<5;i++) {
+            objects.add(podamFactory.manufacturePojoWithFullData(this.entityClass));
+        }
+
+        this.getCasquatchDao().saveAllAsync(this.entityClass, objects).get(10, TimeUnit.SECONDS);
+        for(E obj : objects) {
+            assertTrue(this.getCasquatchDao().existsById(this.entityClass,obj));
+        }
+
+        this.getCasquatchDao().deleteAllAsync(this.entityClass, objects).get(10, TimeUnit.SECONDS);
+        for(E obj : objects) {
+            assertFalse(this.getCasquatchDao().existsById(this.entityClass,obj));
+        }
+    }
+
+    @Test
+    public void testGetAllBySolrQueryAsync() throws Exception {
+        E obj = prepObject();
+
+        if(getCasquatchDao().checkFeature(CasquatchDao.FEATURES.SOLR)) {
+            waitForSolrIndex(obj);
+            List<E> tstObj = this.getCasquatchDao().getAllBySolrAsync(this.entityClass, "*:*").get(10, TimeUnit.SECONDS);
+            assertNotNull(tstObj);
+            assert(tstObj.contains(obj));
+        }
+        else {
+            assertTrue(this.getCasquatchDao().getAllBySolrAsync(this.entityClass, "*:*").isCompletedExceptionally());
+        }
+
+        cleanObject(obj);
+    }
+
+    @Test
+    public void testMapReorderedColumns() {
+        E obj = prepObject();
+
+        List<String> columns = new ArrayList<>();
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (    !Modifier.isStatic(field.getModifiers()) &&
+                    !field.isAnnotationPresent(com.fasterxml.jackson.annotation.JsonIgnore.class) &&
+                    !field.isAnnotationPresent(com.tmobile.opensource.casquatch.annotation.CasquatchIgnore.class)
+            ) {
+                columns.add(0,CasquatchNamingConvention.javaVariableToCql(field.getName()));
+            }
+        }
+        String table = CasquatchNamingConvention.javaVariableToCql(CasquatchNamingConvention.classToVar(entityClass.getSimpleName()));
+        @SuppressWarnings("deprecation")
+        List<E> testList = this.getCasquatchDao().executeAll(this.entityClass, String.format("select %s from %s", String.join(",",columns), table));
+        assertTrue(testList.contains(obj));
+
+        cleanObject(obj);
+    }
+
+    @Test
+    public void testStatementCacheStats() {
+        E obj = prepObject();
+
+        this.getCasquatchDao().getById(this.entityClass,obj);
+        AbstractStatementFactory.StatementCacheStats before = this.getCasquatchDao().getStatementCacheStats(this.entityClass);
+        this.getCasquatchDao().getById(this.entityClass,obj);
+        AbstractStatementFactory.StatementCacheStats after = this.getCasquatchDao().getStatementCacheStats(this.entityClass);
+
+        assertEquals(before.getMisses(), after.getMisses());
+        assertEquals(before.getSize(), after.getSize());
+        assertTrue(after.getHits() > before.getHits());
+
+        cleanObject(obj);
+    }
+
     @Test
     public void testSave() {
         E obj = prepObject();
@@ -402,6 +556,17 @@ public abstract class AbstractEntityTests<E extends AbstractCasquatchEntity>{
         assertNotNull(databaseCache);
     }
 
+    @Test
+    public void testGetCacheAll() {
+        List<E> objectList = prepObject(3);
+
+        List<E> cachedList = getDatabaseCache().getAll(objectList);
+        assertEquals(objectList, cachedList);
+        assertEquals(objectList, getDatabaseCache().getAll(objectList));
+
+        cleanObject(objectList);
+    }
+
     @Test
     public void testGetCacheMissing() {
         assertNull(getDatabaseCache().get(podamFactory.manufacturePojoWithFullData(this.entityClass)));
@@ -416,6 +581,51 @@ public abstract class AbstractEntityTests<E extends AbstractCasquatchEntity>{
         assertEquals(getDatabaseCache().get(obj),obj);
     }
 
+    @Test
+    public void testGeneratedKey() {
+        E obj = podamFactory.manufacturePojoWithFullData(this.entityClass);
+        AbstractStatementFactory<E> statementFactory = this.getCasquatchDao().getStatementFactory(this.entityClass);
+
+        Object key = statementFactory.key(obj);
+        //noinspection unchecked
+        Object keyFromKeys = statementFactory.key((E) obj.keys());
+        assertEquals(key, keyFromKeys);
+        assertEquals(key.hashCode(), keyFromKeys.hashCode());
+        assertNotEquals(key, statementFactory.key(podamFactory.manufacturePojoWithFullData(this.entityClass)));
+    }
+
+    @Test
+    public void testBinaryCodec() {
+        E obj = podamFactory.manufacturePojoWithFullData(this.entityClass);
+        AbstractStatementFactory<E> statementFactory = this.getCasquatchDao().getStatementFactory(this.entityClass);
+
+        ByteBuffer buffer = statementFactory.encode(obj, ByteBuffer::allocateDirect);
+        buffer.flip();
+        assertEquals(obj, statementFactory.decode(buffer));
+
+        //noinspection unchecked
+        ByteBuffer keyBuffer = statementFactory.encode((E) obj.keys(), ByteBuffer::allocate);
+        keyBuffer.flip();
+        assertTrue(keyBuffer.remaining() < buffer.remaining());
+        assertEquals(obj.keys(), statementFactory.decode(keyBuffer));
+    }
+
+    @Test
+    public void testHashCode() {
+        E obj = podamFactory.manufacturePojoWithFullData(this.entityClass);
+        AbstractStatementFactory<E> statementFactory = this.getCasquatchDao().getStatementFactory(this.entityClass);
+        ByteBuffer buffer = statementFactory.encode(obj, ByteBuffer::allocate);
+        buffer.flip();
+        E copy = statementFactory.decode(buffer);
+
+        assertNotSame(obj, copy);
+        assertEquals(obj, copy);
+        assertEquals(obj.hashCode(), copy.hashCode());
+        assertEquals(obj.keys().hashCode(), copy.keys().hashCode());
+        assertEquals(obj.toString(), copy.toString());
+        assertTrue(new HashSet<>(Collections.singletonList(obj)).contains(copy));
+    }
+
     @Test
     public void testEqualsWithNull() {
         assertFalse(prepObject().equals(null));
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.tests;
+
+import com.tmobile.opensource.casquatch.CasquatchDao;
+import com.tmobile.opensource.casquatch.CasquatchTestDaoBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@Slf4j
+public class BulkWriteTests {
+
+    private static final int PARTITIONS = 100;
+    private static final int ROWS_PER_PARTITION = 100;
+
+    private static CasquatchDao casquatchDao;
+
+    @BeforeClass
+    public static void setUp() {
+        casquatchDao=new CasquatchTestDaoBuilder()
+                .withEmbedded()
+                .withTestKeyspace("junittest")
+                .withDDL(SimpleTable.getDDL())
+                .withBulkBatchSize(50)
+                .withBulkMaxInFlight(32)
+                .build();
+    }
+
+    private static List<SimpleTable> buildRows(int offset) {
+        List<SimpleTable> rows = new ArrayList<>();
+        for(int partition=0;partition<PARTITIONS;partition++) {
+            for(int row=0;row<ROWS_PER_PARTITION;row++) {
+                SimpleTable simpleTable = new SimpleTable(offset+partition,row);
+                simpleTable.setColOne("one");
+                simpleTable.setColTwo("two");
+                rows.add(simpleTable);
+            }
+        }
+        return rows;
+    }
+
+    private static long rowsPerSecond(int rows, long nanos) {
+        return rows * TimeUnit.SECONDS.toNanos(1) / Math.max(nanos,1);
+    }
+
+    @Test
+    public void testSaveAllThroughput() {
+        List<SimpleTable> individual = buildRows(0);
+        long start = System.nanoTime();
+        for(SimpleTable simpleTable : individual) {
+            casquatchDao.save(SimpleTable.class, simpleTable);
+        }
+        long individualNanos = System.nanoTime()-start;
+
+        List<SimpleTable> bulk = buildRows(PARTITIONS);
+        start = System.nanoTime();
+        casquatchDao.saveAll(SimpleTable.class, bulk);
+        long bulkNanos = System.nanoTime()-start;
+
+        log.info("Saved {} rows individually at {} rows/s and with saveAll at {} rows/s", bulk.size(), rowsPerSecond(individual.size(),individualNanos), rowsPerSecond(bulk.size(),bulkNanos));
+
+        for(int partition=PARTITIONS;partition<PARTITIONS*2;partition++) {
+            assertEquals(ROWS_PER_PARTITION, casquatchDao.getAllById(SimpleTable.class, new SimpleTable(partition), ROWS_PER_PARTITION+1).size());
+        }
+
+        start = System.nanoTime();
+        casquatchDao.deleteAll(SimpleTable.class, bulk);
+        log.info("Deleted {} rows with deleteAll at {} rows/s", bulk.size(), rowsPerSecond(bulk.size(),System.nanoTime()-start));
+        casquatchDao.deleteAll(SimpleTable.class, individual);
+        assertFalse(casquatchDao.existsById(SimpleTable.class, bulk.get(0)));
+    }
+
+    @Test
+    public void testSaveAllAsyncThroughput() throws Exception {
+        List<SimpleTable> bulk = buildRows(PARTITIONS*2);
+        long start = System.nanoTime();
+        casquatchDao.saveAllAsync(SimpleTable.class, bulk).get(60, TimeUnit.SECONDS);
+        log.info("Saved {} rows with saveAllAsync at {} rows/s", bulk.size(), rowsPerSecond(bulk.size(),System.nanoTime()-start));
+
+        assertTrue(casquatchDao.existsById(SimpleTable.class, bulk.get(bulk.size()-1)));
+        casquatchDao.deleteAllAsync(SimpleTable.class, bulk).get(60, TimeUnit.SECONDS);
+        assertFalse(casquatchDao.existsById(SimpleTable.class, bulk.get(bulk.size()-1)));
+    }
+
+    @Test
+    public void testSaveAllEmpty() {
+        casquatchDao.saveAll(SimpleTable.class, new ArrayList<>());
+    }
+
+}
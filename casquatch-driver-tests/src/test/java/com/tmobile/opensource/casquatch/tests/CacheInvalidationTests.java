@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.tests;
+
+import com.tmobile.opensource.casquatch.CacheOptions;
+import com.tmobile.opensource.casquatch.CasquatchDao;
+import com.tmobile.opensource.casquatch.CasquatchTestDaoBuilder;
+import com.tmobile.opensource.casquatch.DatabaseCache;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CacheInvalidationTests {
+
+    private static final int PARTITION = 3000;
+
+    private static CasquatchDao casquatchDaoA;
+    private static CasquatchDao casquatchDaoB;
+
+    @BeforeClass
+    public static void setUp() {
+        casquatchDaoA=build();
+        casquatchDaoB=build();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        casquatchDaoA.close();
+        casquatchDaoB.close();
+    }
+
+    private static CasquatchDao build() {
+        return new CasquatchTestDaoBuilder()
+                .withEmbedded()
+                .withTestKeyspace("junittest")
+                .withDDL(SimpleTable.getDDL())
+                .withCacheInvalidationInterval("100 milliseconds")
+                .build();
+    }
+
+    @Test
+    public void testInvalidation() throws InterruptedException {
+        DatabaseCache<SimpleTable> databaseCacheA = casquatchDaoA.getCache(SimpleTable.class, new CacheOptions().withInvalidation(true));
+        DatabaseCache<SimpleTable> databaseCacheB = casquatchDaoB.getCache(SimpleTable.class, new CacheOptions().withInvalidation(true));
+
+        SimpleTable simpleTable = new SimpleTable(PARTITION,1);
+        simpleTable.setColOne("one");
+        databaseCacheA.set(simpleTable, simpleTable);
+        assertEquals("one", databaseCacheB.get(simpleTable).getColOne());
+
+        simpleTable.setColOne("two");
+        databaseCacheA.set(simpleTable, simpleTable);
+        Thread.sleep(1000);
+        assertTrue(databaseCacheB.getStats().getInvalidations()>=1);
+        assertEquals("two", databaseCacheB.get(simpleTable).getColOne());
+    }
+
+    @Test
+    public void testWriteBehindInvalidation() throws InterruptedException {
+        DatabaseCache<SimpleTable> databaseCacheA = casquatchDaoA.getCache(SimpleTable.class, new CacheOptions().withInvalidation(true).withWriteBehind(Duration.ofHours(1)));
+        DatabaseCache<SimpleTable> databaseCacheB = casquatchDaoB.getCache(SimpleTable.class, new CacheOptions().withInvalidation(true));
+
+        SimpleTable simpleTable = new SimpleTable(PARTITION,2);
+        simpleTable.setColOne("one");
+        casquatchDaoA.save(SimpleTable.class, simpleTable);
+        assertEquals("one", databaseCacheB.get(simpleTable).getColOne());
+
+        simpleTable.setColOne("two");
+        databaseCacheA.set(simpleTable, simpleTable);
+        databaseCacheA.flush();
+        Thread.sleep(1000);
+        assertEquals("two", databaseCacheB.get(simpleTable).getColOne());
+    }
+
+    @Test
+    public void testOffHeapInvalidation() throws InterruptedException {
+        DatabaseCache<SimpleTable> databaseCacheA = casquatchDaoA.getCache(SimpleTable.class, new CacheOptions().withInvalidation(true));
+        DatabaseCache<SimpleTable> databaseCacheB = casquatchDaoB.getCache(SimpleTable.class, new CacheOptions().withInvalidation(true).withMaximumSize(10L).withOffHeapMaximumSize(1024L*1024L));
+
+        for(int i=100;i<130;i++) {
+            SimpleTable simpleTable = new SimpleTable(PARTITION,i);
+            simpleTable.setColOne("one");
+            casquatchDaoA.save(SimpleTable.class, simpleTable);
+            assertEquals("one", databaseCacheB.get(simpleTable).getColOne());
+        }
+        assertTrue(databaseCacheB.size()<=10);
+        assertTrue(databaseCacheB.offHeapSize()>0);
+
+        for(int i=100;i<130;i++) {
+            SimpleTable simpleTable = new SimpleTable(PARTITION,i);
+            simpleTable.setColOne("two");
+            databaseCacheA.set(simpleTable, simpleTable);
+        }
+        Thread.sleep(1000);
+        assertEquals(0, databaseCacheB.size()+databaseCacheB.offHeapSize());
+
+        for(int i=100;i<130;i++) {
+            assertEquals("two", databaseCacheB.get(new SimpleTable(PARTITION,i)).getColOne());
+        }
+        assertEquals(60, databaseCacheB.getStats().getLoads());
+    }
+}
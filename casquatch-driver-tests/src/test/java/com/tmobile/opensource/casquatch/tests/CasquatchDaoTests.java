@@ -17,10 +17,16 @@
 package com.tmobile.opensource.casquatch.tests;
 
 import com.tmobile.opensource.casquatch.*;
+import com.tmobile.opensource.casquatch.models.NodeMetaData;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.HashSet;
+import java.util.ServiceLoader;
+import java.util.Set;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class CasquatchDaoTests {
 
@@ -48,6 +54,16 @@ public class CasquatchDaoTests {
         assertEquals(casquatchDao.getKeyspace(),"junittest");
     }
 
+    @Test
+    public void testEntityRegistry() {
+        Set<Class<? extends AbstractCasquatchEntity>> entities = new HashSet<>();
+        for(CasquatchEntityRegistry casquatchEntityRegistry : ServiceLoader.load(CasquatchEntityRegistry.class)) {
+            entities.addAll(casquatchEntityRegistry.getStatementFactories().keySet());
+        }
+        assertTrue(entities.contains(SimpleTable.class));
+        assertTrue(entities.contains(NodeMetaData.class));
+    }
+
     @Test
     public void testGetBuilder() {
         assert(casquatchDao.builder() instanceof CasquatchDaoBuilder);
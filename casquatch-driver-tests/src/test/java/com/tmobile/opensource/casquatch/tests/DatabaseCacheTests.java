@@ -0,0 +1,412 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.tests;
+
+import com.tmobile.opensource.casquatch.CacheOptions;
+import com.tmobile.opensource.casquatch.CasquatchDao;
+import com.tmobile.opensource.casquatch.CasquatchTestDaoBuilder;
+import com.tmobile.opensource.casquatch.DatabaseCache;
+import com.tmobile.opensource.casquatch.DriverException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DatabaseCacheTests {
+
+    private static final int PARTITION = 2000;
+    private static final int ROWS = 100;
+
+    private static CasquatchDao casquatchDao;
+
+    @BeforeClass
+    public static void setUp() {
+        casquatchDao=new CasquatchTestDaoBuilder()
+                .withEmbedded()
+                .withTestKeyspace("junittest")
+                .withDDL(SimpleTable.getDDL())
+                .build();
+
+        List<SimpleTable> rows = new ArrayList<>();
+        for(int i=0;i<ROWS;i++) {
+            SimpleTable simpleTable = new SimpleTable(PARTITION,i);
+            simpleTable.setColOne("one");
+            rows.add(simpleTable);
+        }
+        casquatchDao.saveAll(SimpleTable.class, rows);
+    }
+
+    @Test
+    public void testMaximumSize() {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions().withMaximumSize(10L));
+        for(int i=0;i<ROWS;i++) {
+            assertEquals("one", databaseCache.get(new SimpleTable(PARTITION,i)).getColOne());
+        }
+        assertTrue(databaseCache.size()<=10);
+    }
+
+    @Test
+    public void testBackgroundExpiration() throws InterruptedException {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions().withExpiration(Duration.ofMillis(100)));
+        databaseCache.get(new SimpleTable(PARTITION,0));
+        assertEquals(1, databaseCache.size());
+        Thread.sleep(500);
+        assertEquals(0, databaseCache.size());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<SimpleTable>> futures = new ArrayList<>();
+            for(int i=0;i<ROWS*10;i++) {
+                int key = i % ROWS;
+                futures.add(executorService.submit(() -> databaseCache.get(new SimpleTable(PARTITION,key))));
+            }
+            for(Future<SimpleTable> future : futures) {
+                assertEquals("one", future.get().getColOne());
+            }
+        }
+        finally {
+            executorService.shutdown();
+        }
+        assertEquals(ROWS, databaseCache.size());
+    }
+
+    @Test
+    public void testCoalescedLoads() throws Exception {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class);
+        int threads = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<SimpleTable>> futures = new ArrayList<>();
+            for(int i=0;i<threads;i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return databaseCache.get(new SimpleTable(PARTITION,0));
+                }));
+            }
+            start.countDown();
+            for(Future<SimpleTable> future : futures) {
+                assertEquals("one", future.get().getColOne());
+            }
+        }
+        finally {
+            executorService.shutdown();
+        }
+        DatabaseCache.CacheStats stats = databaseCache.getStats();
+        assertEquals(1, stats.getLoads());
+        assertEquals(threads, stats.getHits()+stats.getMisses());
+        assertTrue(stats.getCoalescedLoads()<=stats.getMisses());
+    }
+
+
+    private static void updateColOne(int keyTwo, String colOne) {
+        SimpleTable simpleTable = new SimpleTable(PARTITION,keyTwo);
+        simpleTable.setColOne(colOne);
+        casquatchDao.save(SimpleTable.class, simpleTable);
+    }
+
+    private static String awaitColOne(DatabaseCache<SimpleTable> databaseCache, int keyTwo, String expected) throws InterruptedException {
+        String colOne = null;
+        for(int i=0;i<50;i++) {
+            colOne = databaseCache.get(new SimpleTable(PARTITION,keyTwo)).getColOne();
+            if(expected.equals(colOne)) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+        return colOne;
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() throws InterruptedException {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions()
+                .withExpiration(Duration.ofMillis(200))
+                .withStaleWhileRevalidate(Duration.ofSeconds(30)));
+        try {
+            assertEquals("one", databaseCache.get(new SimpleTable(PARTITION,50)).getColOne());
+            updateColOne(50,"two");
+            Thread.sleep(400);
+
+            assertEquals("one", databaseCache.get(new SimpleTable(PARTITION,50)).getColOne());
+            assertEquals(1, databaseCache.getStats().getStaleHits());
+            assertEquals(1, databaseCache.getStats().getRefreshes());
+            assertEquals("two", awaitColOne(databaseCache,50,"two"));
+            assertEquals(1, databaseCache.getStats().getLoads());
+        }
+        finally {
+            updateColOne(50,"one");
+        }
+    }
+
+    @Test
+    public void testRefreshAhead() throws InterruptedException {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions()
+                .withExpiration(Duration.ofSeconds(30))
+                .withRefreshAhead(Duration.ofMillis(29800)));
+        try {
+            assertEquals("one", databaseCache.get(new SimpleTable(PARTITION,51)).getColOne());
+            updateColOne(51,"two");
+            Thread.sleep(400);
+
+            assertEquals("one", databaseCache.get(new SimpleTable(PARTITION,51)).getColOne());
+            assertEquals(0, databaseCache.getStats().getStaleHits());
+            assertTrue(databaseCache.getStats().getRefreshes()>=1);
+            assertEquals("two", awaitColOne(databaseCache,51,"two"));
+            assertEquals(1, databaseCache.getStats().getLoads());
+        }
+        finally {
+            updateColOne(51,"one");
+        }
+    }
+
+
+    @Test
+    public void testNegativeCaching() {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions().withNegativeExpiration(Duration.ofSeconds(30)));
+        SimpleTable missing = new SimpleTable(PARTITION+1,0);
+        try {
+            assertFalse(databaseCache.exists(missing));
+            assertFalse(databaseCache.exists(missing));
+            assertEquals(1, databaseCache.getStats().getLoads());
+            assertEquals(1, databaseCache.getStats().getNegativeHits());
+            assertEquals(0, databaseCache.getStats().getHits());
+
+            SimpleTable simpleTable = new SimpleTable(PARTITION+1,0);
+            simpleTable.setColOne("one");
+            databaseCache.set(missing, simpleTable);
+            assertTrue(databaseCache.exists(missing));
+            assertEquals(1, databaseCache.getStats().getNegativeHits());
+            assertEquals(1, databaseCache.getStats().getHits());
+        }
+        finally {
+            casquatchDao.delete(SimpleTable.class, missing);
+        }
+    }
+
+    @Test
+    public void testNegativeExpiration() throws InterruptedException {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions().withNegativeExpiration(Duration.ofMillis(200)));
+        SimpleTable missing = new SimpleTable(PARTITION+2,0);
+        assertNull(databaseCache.get(missing));
+        Thread.sleep(400);
+        assertNull(databaseCache.get(missing));
+        assertEquals(2, databaseCache.getStats().getLoads());
+        assertEquals(0, databaseCache.getStats().getNegativeHits());
+    }
+
+
+    @Test
+    public void testGetAll() {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class);
+        List<SimpleTable> keys = new ArrayList<>();
+        for(int i=60;i<70;i++) {
+            keys.add(new SimpleTable(PARTITION,i));
+        }
+        keys.add(new SimpleTable(PARTITION+3,0));
+        keys.add(new SimpleTable(PARTITION,60));
+
+        List<SimpleTable> objects = databaseCache.getAll(keys);
+        assertEquals(keys.size(), objects.size());
+        for(int i=0;i<10;i++) {
+            assertEquals(Integer.valueOf(60+i), objects.get(i).getKeyTwo());
+            assertEquals("one", objects.get(i).getColOne());
+        }
+        assertNull(objects.get(10));
+        assertEquals(objects.get(0), objects.get(11));
+        assertEquals(11, databaseCache.getStats().getLoads());
+
+        databaseCache.getAll(keys.subList(0,10));
+        assertEquals(11, databaseCache.getStats().getLoads());
+        assertEquals(10, databaseCache.getStats().getHits());
+    }
+
+    @Test
+    public void testOffHeapTier() throws InterruptedException {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions().withMaximumSize(10L).withOffHeapMaximumSize(1024L*1024L));
+        for(int i=0;i<ROWS;i++) {
+            databaseCache.get(new SimpleTable(PARTITION,i));
+        }
+        //Evicted objects are moved off heap in the background
+        for(int i=0;i<50 && databaseCache.size()+databaseCache.offHeapSize()<ROWS;i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(databaseCache.size()<=10);
+        assertEquals(ROWS, databaseCache.size()+databaseCache.offHeapSize());
+
+        for(int i=0;i<ROWS;i++) {
+            SimpleTable simpleTable = databaseCache.get(new SimpleTable(PARTITION,i));
+            assertEquals(Integer.valueOf(i), simpleTable.getKeyTwo());
+            assertEquals("one", simpleTable.getColOne());
+        }
+        assertEquals(ROWS, databaseCache.getStats().getLoads());
+        assertTrue(databaseCache.getStats().getOffHeapHits()>0);
+    }
+
+    @Test
+    public void testOffHeapMaximumSize() throws InterruptedException {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions().withMaximumSize(10L).withOffHeapMaximumSize(256L));
+        for(int i=0;i<ROWS;i++) {
+            databaseCache.get(new SimpleTable(PARTITION,i));
+        }
+        Thread.sleep(500);
+        assertTrue(databaseCache.offHeapSize()<ROWS-10);
+    }
+
+    @Test
+    public void testSnapshot() throws IOException {
+        Path snapshotDirectory = Files.createTempDirectory("casquatch-snapshot");
+        CacheOptions cacheOptions = new CacheOptions().withSnapshotDirectory(snapshotDirectory);
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, cacheOptions);
+        for(int i=0;i<20;i++) {
+            databaseCache.get(new SimpleTable(PARTITION,i));
+        }
+        databaseCache.close();
+        assertEquals(0, databaseCache.size());
+
+        DatabaseCache<SimpleTable> restoredCache = casquatchDao.getCache(SimpleTable.class, cacheOptions);
+        assertEquals(20, restoredCache.size());
+        for(int i=0;i<20;i++) {
+            assertEquals("one", restoredCache.get(new SimpleTable(PARTITION,i)).getColOne());
+        }
+        assertEquals(0, restoredCache.getStats().getLoads());
+        assertEquals(20, restoredCache.getStats().getHits());
+        restoredCache.close();
+    }
+
+    @Test
+    public void testSnapshotExpiration() throws IOException, InterruptedException {
+        Path snapshotDirectory = Files.createTempDirectory("casquatch-snapshot");
+        CacheOptions cacheOptions = new CacheOptions().withSnapshotDirectory(snapshotDirectory).withExpiration(Duration.ofMillis(300));
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, cacheOptions);
+        databaseCache.get(new SimpleTable(PARTITION,0));
+        databaseCache.close();
+
+        Thread.sleep(500);
+        DatabaseCache<SimpleTable> restoredCache = casquatchDao.getCache(SimpleTable.class, cacheOptions);
+        assertEquals(0, restoredCache.size());
+        restoredCache.get(new SimpleTable(PARTITION,0));
+        assertEquals(1, restoredCache.getStats().getLoads());
+        restoredCache.close();
+    }
+
+    @Test
+    public void testWriteBehind() {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions().withWriteBehind(Duration.ofHours(1)));
+        SimpleTable key = new SimpleTable(PARTITION+4,0);
+        try {
+            for(int i=0;i<10;i++) {
+                SimpleTable simpleTable = new SimpleTable(PARTITION+4,0);
+                simpleTable.setColOne("write"+i);
+                databaseCache.set(key, simpleTable);
+            }
+            assertEquals("write9", databaseCache.get(key).getColOne());
+            assertNull(casquatchDao.getById(SimpleTable.class, key));
+            assertEquals(1, databaseCache.getStats().getPendingWrites());
+            assertEquals(9, databaseCache.getStats().getCoalescedWrites());
+
+            databaseCache.flush();
+            assertEquals("write9", casquatchDao.getById(SimpleTable.class, key).getColOne());
+            assertEquals(0, databaseCache.getStats().getPendingWrites());
+        }
+        finally {
+            databaseCache.close();
+            casquatchDao.delete(SimpleTable.class, key);
+        }
+    }
+
+    @Test
+    public void testWriteBehindMaximumPending() {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions().withWriteBehind(Duration.ofHours(1)).withWriteBehindMaximumPending(5L));
+        try {
+            for(int i=0;i<20;i++) {
+                SimpleTable simpleTable = new SimpleTable(PARTITION+5,i);
+                simpleTable.setColOne("one");
+                databaseCache.set(simpleTable, simpleTable);
+                assertTrue(databaseCache.getStats().getPendingWrites()<=5);
+            }
+            databaseCache.close();
+            assertEquals(20, casquatchDao.streamAllById(SimpleTable.class, new SimpleTable(PARTITION+5)).count());
+        }
+        finally {
+            for(int i=0;i<20;i++) {
+                casquatchDao.delete(SimpleTable.class, new SimpleTable(PARTITION+5,i));
+            }
+        }
+    }
+
+    @Test
+    public void testWriteBehindTimeout() {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions().withWriteBehind(Duration.ofHours(1)).withWriteBehindMaximumPending(5L).withWriteBehindTimeout(Duration.ZERO));
+        try {
+            for(int i=0;i<5;i++) {
+                SimpleTable simpleTable = new SimpleTable(PARTITION+7,i);
+                databaseCache.set(simpleTable, simpleTable);
+            }
+            try {
+                SimpleTable simpleTable = new SimpleTable(PARTITION+7,5);
+                databaseCache.set(simpleTable, simpleTable);
+                fail("Expected write behind to be full");
+            }
+            catch (DriverException e) {
+                assertEquals(5, databaseCache.getStats().getPendingWrites());
+            }
+        }
+        finally {
+            databaseCache.close();
+            for(int i=0;i<5;i++) {
+                casquatchDao.delete(SimpleTable.class, new SimpleTable(PARTITION+7,i));
+            }
+        }
+    }
+
+    @Test
+    public void testWriteBehindInterval() throws InterruptedException {
+        DatabaseCache<SimpleTable> databaseCache = casquatchDao.getCache(SimpleTable.class, new CacheOptions().withWriteBehind(Duration.ofMillis(100)));
+        SimpleTable simpleTable = new SimpleTable(PARTITION+6,0);
+        simpleTable.setColOne("one");
+        try {
+            databaseCache.set(simpleTable, simpleTable);
+            Thread.sleep(500);
+            assertEquals(0, databaseCache.getStats().getPendingWrites());
+            assertEquals("one", casquatchDao.getById(SimpleTable.class, simpleTable).getColOne());
+        }
+        finally {
+            databaseCache.close();
+            casquatchDao.delete(SimpleTable.class, simpleTable);
+        }
+    }
+
+}
@@ -21,7 +21,12 @@ import com.tmobile.opensource.casquatch.CasquatchTestDaoBuilder;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
 
 public class FailoverTests {
 
@@ -62,4 +67,18 @@ public class FailoverTests {
         }
     }
 
+    @Test
+    public void testFailoverASyncSaturated() throws Exception {
+        //Every request fails at TWO and fails over. A blocking failover would hold driver threads and stall completion
+        int requests=1000;
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for(int i=0;i<requests;i++) {
+            futures.add(casquatchDao.saveAsync(SimpleTable.class, new SimpleTable(i,i)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        for(CompletableFuture<Void> future : futures) {
+            assertFalse(future.isCompletedExceptionally());
+        }
+    }
+
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.tests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tmobile.opensource.casquatch.CasquatchObjectMapper;
+import com.tmobile.opensource.casquatch.tests.podam.CasquatchPodamFactoryImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the generated json serializers against Jackson bean serialization of a wide entity. Run main() to report allocation per operation via the GC profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonBenchmark {
+
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper generatedMapper;
+    private TortureTable fullObject;
+    private String json;
+
+    @Setup
+    public void setup() throws IOException {
+        reflectiveMapper = new ObjectMapper();
+        generatedMapper = CasquatchObjectMapper.getObjectMapper();
+        fullObject = new CasquatchPodamFactoryImpl().manufacturePojoWithFullData(TortureTable.class);
+        //java.time types can not be read back without the jsr310 module
+        fullObject.setColTimestamp(null);
+        fullObject.setColTime(null);
+        fullObject.setColDate(null);
+        json = reflectiveMapper.writeValueAsString(fullObject);
+    }
+
+    @Benchmark
+    public String serializeReflective() throws IOException {
+        return reflectiveMapper.writeValueAsString(fullObject);
+    }
+
+    @Benchmark
+    public String serializeGenerated() throws IOException {
+        return generatedMapper.writeValueAsString(fullObject);
+    }
+
+    @Benchmark
+    public TortureTable deserializeReflective() throws IOException {
+        return reflectiveMapper.readValue(json, TortureTable.class);
+    }
+
+    @Benchmark
+    public TortureTable deserializeGenerated() throws IOException {
+        return generatedMapper.readValue(json, TortureTable.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JsonBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
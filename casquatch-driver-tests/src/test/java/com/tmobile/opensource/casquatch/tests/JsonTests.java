@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.tests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.tmobile.opensource.casquatch.CasquatchObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class JsonTests {
+
+    private final ObjectMapper reflectiveMapper = new ObjectMapper();
+    private final ObjectMapper generatedMapper = CasquatchObjectMapper.getObjectMapper();
+
+    @Test
+    public void testGeneratedSerializer() throws IOException {
+        assertEquals(SimpleTable_JsonSerializer.class, generatedMapper.getSerializerProviderInstance().findValueSerializer(SimpleTable.class).getClass());
+    }
+
+    @Test
+    public void testMatchesReflective() throws IOException {
+        SimpleTable simpleTable = new SimpleTable(1,2);
+        simpleTable.setColOne("one");
+
+        assertEquals(reflectiveMapper.readTree(reflectiveMapper.writeValueAsString(simpleTable)), reflectiveMapper.readTree(generatedMapper.writeValueAsString(simpleTable)));
+        assertEquals(simpleTable, generatedMapper.readValue(reflectiveMapper.writeValueAsString(simpleTable), SimpleTable.class));
+        assertEquals(simpleTable, reflectiveMapper.readValue(generatedMapper.writeValueAsString(simpleTable), SimpleTable.class));
+    }
+
+    @Test
+    public void testCoercion() throws IOException {
+        SimpleTable simpleTable = generatedMapper.readValue("{\"keyOne\":\"1\",\"keyTwo\":2,\"colOne\":null}", SimpleTable.class);
+        assertEquals(new SimpleTable(1,2), simpleTable);
+    }
+
+    @Test
+    public void testUnknownProperty() throws IOException {
+        try {
+            generatedMapper.readValue("{\"keyOne\":1,\"unknown\":2}", SimpleTable.class);
+        }
+        catch (UnrecognizedPropertyException e) {
+            return;
+        }
+        fail("Unknown property was accepted");
+    }
+}
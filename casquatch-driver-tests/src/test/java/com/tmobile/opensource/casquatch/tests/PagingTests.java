@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.tests;
+
+import com.tmobile.opensource.casquatch.CasquatchDao;
+import com.tmobile.opensource.casquatch.CasquatchTestDaoBuilder;
+import com.tmobile.opensource.casquatch.DriverException;
+import com.tmobile.opensource.casquatch.Page;
+import com.tmobile.opensource.casquatch.QueryOptions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PagingTests {
+
+    private static final int PARTITION = 2000;
+    private static final int ROWS = 25;
+
+    private static CasquatchDao casquatchDao;
+
+    @BeforeClass
+    public static void setUp() {
+        casquatchDao=new CasquatchTestDaoBuilder()
+                .withEmbedded()
+                .withTestKeyspace("junittest")
+                .withDDL(SimpleTable.getDDL())
+                .build();
+
+        List<SimpleTable> rows = new ArrayList<>();
+        for(int i=0;i<ROWS;i++) {
+            rows.add(new SimpleTable(PARTITION,i));
+        }
+        casquatchDao.saveAll(SimpleTable.class, rows);
+    }
+
+    @Test
+    public void testGetPageById() {
+        Page<SimpleTable> page = casquatchDao.getPageById(SimpleTable.class, new SimpleTable(PARTITION), null);
+        assertEquals(10, page.getItems().size());
+        assertTrue(page.hasMorePages());
+        for(int i=0;i<page.getItems().size();i++) {
+            assertEquals(Integer.valueOf(i), page.getItems().get(i).getKeyTwo());
+        }
+    }
+
+    @Test
+    public void testGetPageByIdResumes() {
+        List<SimpleTable> results = new ArrayList<>();
+        String pagingState = null;
+        do {
+            Page<SimpleTable> page = casquatchDao.getPageById(SimpleTable.class, new SimpleTable(PARTITION), pagingState, new QueryOptions().withLimit(7));
+            results.addAll(page.getItems());
+            pagingState = page.getPagingState();
+        } while(pagingState != null);
+        assertEquals(ROWS, results.size());
+        for(int i=0;i<results.size();i++) {
+            assertEquals(Integer.valueOf(i), results.get(i).getKeyTwo());
+        }
+    }
+
+    @Test
+    public void testGetPageByIdAsync() {
+        Page<SimpleTable> first = casquatchDao.getPageByIdAsync(SimpleTable.class, new SimpleTable(PARTITION), null, new QueryOptions().withLimit(20)).join();
+        assertEquals(20, first.getItems().size());
+        Page<SimpleTable> second = casquatchDao.getPageByIdAsync(SimpleTable.class, new SimpleTable(PARTITION), first.getPagingState(), new QueryOptions().withLimit(20)).join();
+        assertEquals(ROWS-20, second.getItems().size());
+        assertEquals(Integer.valueOf(20), second.getItems().get(0).getKeyTwo());
+        assertFalse(second.hasMorePages());
+    }
+
+    @Test(expected = DriverException.class)
+    public void testGetPageByIdInvalidPagingState() {
+        casquatchDao.getPageById(SimpleTable.class, new SimpleTable(PARTITION), "not a paging state");
+    }
+}
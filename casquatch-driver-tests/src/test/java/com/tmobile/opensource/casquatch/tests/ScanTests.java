@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.tests;
+
+import com.tmobile.opensource.casquatch.CasquatchDao;
+import com.tmobile.opensource.casquatch.CasquatchTestDaoBuilder;
+import com.tmobile.opensource.casquatch.DriverException;
+import com.tmobile.opensource.casquatch.ScanOptions;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ScanTests {
+
+    private static final int PARTITIONS = 500;
+    private static final int ROWS = 3;
+
+    private static CasquatchDao casquatchDao;
+
+    @BeforeClass
+    public static void setUp() {
+        casquatchDao=new CasquatchTestDaoBuilder()
+                .withEmbedded()
+                .withTestKeyspace("junitscan")
+                .withDDL(SimpleTable.getDDL())
+                .withBasicRequestPageSize(10)
+                .build();
+
+        List<SimpleTable> rows = new ArrayList<>();
+        for(int i=0;i<PARTITIONS;i++) {
+            for(int j=0;j<ROWS;j++) {
+                rows.add(new SimpleTable(i,j));
+            }
+        }
+        casquatchDao.saveAll(SimpleTable.class, rows);
+    }
+
+    @Test
+    public void testScanStream() {
+        Set<String> keys = casquatchDao.scan(SimpleTable.class)
+                .map(simpleTable -> simpleTable.getKeyOne()+":"+simpleTable.getKeyTwo())
+                .collect(Collectors.toSet());
+        assertEquals(PARTITIONS*ROWS, keys.size());
+    }
+
+    @Test
+    public void testScanConsumer() {
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        casquatchDao.scan(SimpleTable.class, new ScanOptions().withConcurrency(4).withSplitSize(10L), simpleTable -> keys.add(simpleTable.getKeyOne()+":"+simpleTable.getKeyTwo()));
+        assertEquals(PARTITIONS*ROWS, keys.size());
+    }
+
+    @Test
+    public void testScanAsync() {
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        casquatchDao.scanAsync(SimpleTable.class, new ScanOptions().withConcurrency(1), simpleTable -> keys.add(simpleTable.getKeyOne()+":"+simpleTable.getKeyTwo())).join();
+        assertEquals(PARTITIONS*ROWS, keys.size());
+    }
+
+    @Test
+    public void testScanUnsplit() {
+        assertEquals(PARTITIONS*ROWS, casquatchDao.scan(SimpleTable.class, new ScanOptions().withConcurrency(1).withSplitSize(Long.MAX_VALUE)).count());
+    }
+
+    @Test
+    public void testScanShortCircuit() {
+        ScanOptions scanOptions = new ScanOptions().withConcurrency(4).withSplitSize(10L);
+        try(Stream<SimpleTable> stream = casquatchDao.scan(SimpleTable.class, scanOptions)) {
+            assertEquals(5, stream.limit(5).count());
+        }
+        try(Stream<SimpleTable> stream = casquatchDao.scan(SimpleTable.class, scanOptions)) {
+            assertTrue(stream.findAny().isPresent());
+        }
+        try(Stream<SimpleTable> stream = casquatchDao.scan(SimpleTable.class, scanOptions)) {
+            assertEquals(PARTITIONS*ROWS, stream.count());
+        }
+    }
+
+    @Test(expected = DriverException.class)
+    public void testScanInvalidConcurrency() {
+        casquatchDao.scan(SimpleTable.class, new ScanOptions().withConcurrency(0));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.tests;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.tmobile.opensource.casquatch.CasquatchDao;
+import com.tmobile.opensource.casquatch.CasquatchTestDaoBuilder;
+import com.tmobile.opensource.casquatch.QueryOptions;
+import com.tmobile.opensource.casquatch.tests.podam.CasquatchPodamFactoryImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for statement building of a wide entity. Run main() to report allocation per operation via the GC profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StatementFactoryBenchmark {
+
+    private CasquatchDao casquatchDao;
+    private TortureTable_StatementFactory statementFactory;
+    private TortureTable fullObject;
+    private TortureTable keyObject;
+    private QueryOptions queryOptions;
+
+    @Setup
+    public void setup() {
+        casquatchDao = new CasquatchTestDaoBuilder()
+                .withEmbedded()
+                .withTestKeyspace("junittest")
+                .withDDL(TortureTable.getDDL())
+                .build();
+        statementFactory = new TortureTable_StatementFactory(casquatchDao.getSession());
+        fullObject = new CasquatchPodamFactoryImpl().manufacturePojoWithFullData(TortureTable.class);
+        keyObject = new TortureTable(fullObject.getId());
+        queryOptions = new QueryOptions();
+    }
+
+    @Benchmark
+    public BoundStatement save() {
+        return statementFactory.save(fullObject, queryOptions);
+    }
+
+    @Benchmark
+    public BoundStatement saveWithNulls() {
+        return statementFactory.save(keyObject, queryOptions.withPersistNulls());
+    }
+
+    @Benchmark
+    public BoundStatement get() {
+        return statementFactory.get(keyObject, queryOptions);
+    }
+
+    @Benchmark
+    public BoundStatement delete() {
+        return statementFactory.delete(keyObject, queryOptions);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(StatementFactoryBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
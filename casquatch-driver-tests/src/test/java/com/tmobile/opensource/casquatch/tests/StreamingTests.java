@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.tests;
+
+import com.tmobile.opensource.casquatch.CasquatchDao;
+import com.tmobile.opensource.casquatch.CasquatchTestDaoBuilder;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class StreamingTests {
+
+    private static final int PARTITION = 1000;
+    private static final int ROWS = 250;
+
+    private static CasquatchDao casquatchDao;
+
+    @BeforeClass
+    public static void setUp() {
+        casquatchDao=new CasquatchTestDaoBuilder()
+                .withEmbedded()
+                .withTestKeyspace("junittest")
+                .withDDL(SimpleTable.getDDL())
+                .withBasicRequestPageSize(10)
+                .build();
+
+        List<SimpleTable> rows = new ArrayList<>();
+        for(int i=0;i<ROWS;i++) {
+            SimpleTable simpleTable = new SimpleTable(PARTITION,i);
+            simpleTable.setColOne("one");
+            rows.add(simpleTable);
+        }
+        casquatchDao.saveAll(SimpleTable.class, rows);
+    }
+
+    @Test
+    public void testStreamAllByIdPagesPastLimit() {
+        assertEquals(ROWS, casquatchDao.streamAllById(SimpleTable.class, new SimpleTable(PARTITION)).count());
+    }
+
+    @Test
+    public void testStreamAllByIdOrdered() {
+        List<Integer> keys = casquatchDao.streamAllById(SimpleTable.class, new SimpleTable(PARTITION))
+                .limit(25)
+                .map(SimpleTable::getKeyTwo)
+                .collect(Collectors.toList());
+        assertEquals(25, keys.size());
+        for(int i=0;i<keys.size();i++) {
+            assertEquals(Integer.valueOf(i), keys.get(i));
+        }
+    }
+
+    @Test
+    public void testForEachById() {
+        AtomicInteger count = new AtomicInteger();
+        casquatchDao.forEachById(SimpleTable.class, new SimpleTable(PARTITION), simpleTable -> count.incrementAndGet());
+        assertEquals(ROWS, count.get());
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.tests;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.internal.core.type.UserDefinedTypeBuilder;
+import com.tmobile.opensource.casquatch.AbstractTypeCodec;
+import com.tmobile.opensource.casquatch.DriverException;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TypeCodecTests {
+
+    private final UserDefinedType userDefinedType = new UserDefinedTypeBuilder(CqlIdentifier.fromCql("junittest"), CqlIdentifier.fromCql("udt"))
+            .withField(CqlIdentifier.fromCql("val1"), DataTypes.TEXT)
+            .withField(CqlIdentifier.fromCql("val2"), DataTypes.TEXT)
+            .build();
+    private final TypeCodec<UdtValue> udtValueCodec = CodecRegistry.DEFAULT.codecFor(userDefinedType, UdtValue.class);
+
+    @Test
+    public void testRegistered() {
+        assertTrue(Arrays.stream(AbstractTypeCodec.loadTypeCodecs()).anyMatch(Udt_TypeCodec.class::isInstance));
+    }
+
+    @Test
+    public void testAccepts() {
+        Udt_TypeCodec udtTypeCodec = new Udt_TypeCodec();
+        assertTrue(udtTypeCodec.accepts(userDefinedType));
+        assertFalse(udtTypeCodec.accepts(DataTypes.TEXT));
+        assertFalse(udtTypeCodec.accepts(new UserDefinedTypeBuilder(CqlIdentifier.fromCql("junittest"), CqlIdentifier.fromCql("other")).withField(CqlIdentifier.fromCql("val1"), DataTypes.TEXT).build()));
+        assertTrue(udtTypeCodec.accepts(Udt.class));
+        assertEquals(userDefinedType, udtTypeCodec.getCqlType());
+    }
+
+    @Test
+    public void testAcceptsOneKeyspace() {
+        Udt_TypeCodec udtTypeCodec = new Udt_TypeCodec();
+        assertTrue(udtTypeCodec.accepts(userDefinedType));
+        assertFalse(udtTypeCodec.accepts(new UserDefinedTypeBuilder(CqlIdentifier.fromCql("otherkeyspace"), CqlIdentifier.fromCql("udt"))
+                .withField(CqlIdentifier.fromCql("val2"), DataTypes.TEXT)
+                .withField(CqlIdentifier.fromCql("val1"), DataTypes.TEXT)
+                .build()));
+        assertEquals(userDefinedType, udtTypeCodec.getCqlType());
+        assertEquals(udtValueCodec.encode(userDefinedType.newValue("one", "two"), ProtocolVersion.DEFAULT), udtTypeCodec.encode(new Udt("two", "one"), ProtocolVersion.DEFAULT));
+    }
+
+    @Test
+    public void testMatchesUdtValue() {
+        Udt_TypeCodec udtTypeCodec = new Udt_TypeCodec();
+        udtTypeCodec.accepts(userDefinedType);
+        Udt udt = new Udt("two", "one");
+
+        assertEquals(udtValueCodec.encode(userDefinedType.newValue("one", "two"), ProtocolVersion.DEFAULT), udtTypeCodec.encode(udt, ProtocolVersion.DEFAULT));
+        assertEquals(udt, udtTypeCodec.decode(udtValueCodec.encode(userDefinedType.newValue("one", "two"), ProtocolVersion.DEFAULT), ProtocolVersion.DEFAULT));
+        assertEquals(udt, udtTypeCodec.decode(udtTypeCodec.encode(udt, ProtocolVersion.DEFAULT), ProtocolVersion.DEFAULT));
+        assertEquals(udt, udtTypeCodec.parse(udtTypeCodec.format(udt)));
+    }
+
+    @Test
+    public void testNulls() {
+        Udt_TypeCodec udtTypeCodec = new Udt_TypeCodec();
+        udtTypeCodec.accepts(userDefinedType);
+
+        assertNull(udtTypeCodec.encode(null, ProtocolVersion.DEFAULT));
+        assertNull(udtTypeCodec.decode(null, ProtocolVersion.DEFAULT));
+        assertEquals(new Udt(null, "one"), udtTypeCodec.decode(udtTypeCodec.encode(new Udt(null, "one"), ProtocolVersion.DEFAULT), ProtocolVersion.DEFAULT));
+    }
+
+    @Test
+    public void testUnresolved() {
+        try {
+            new Udt_TypeCodec().encode(new Udt("two", "one"), ProtocolVersion.DEFAULT);
+        }
+        catch (DriverException e) {
+            return;
+        }
+        fail("Expected DriverException");
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.tests;
+
+import com.tmobile.opensource.casquatch.AbstractStatementFactory;
+import com.tmobile.opensource.casquatch.CasquatchDao;
+import com.tmobile.opensource.casquatch.CasquatchTestDaoBuilder;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class WarmUpTests {
+
+    private static CasquatchDao casquatchDao;
+
+    @BeforeClass
+    public static void setUp() {
+        casquatchDao=new CasquatchTestDaoBuilder()
+                .withEmbedded()
+                .withTestKeyspace("junittest")
+                .withDDL(SimpleTable.getDDL())
+                .withWarmUpEnabled(true)
+                .withWarmUpEntities(Collections.singletonList(SimpleTable.class.getName()))
+                .build();
+    }
+
+    @Test
+    public void testWarmUp() {
+        AbstractStatementFactory.StatementCacheStats warmed = casquatchDao.getStatementCacheStats(SimpleTable.class);
+        assertEquals(3, warmed.getSize());
+
+        SimpleTable simpleTable = new SimpleTable(1,1);
+        simpleTable.setColOne("one");
+        simpleTable.setColTwo("two");
+        casquatchDao.save(SimpleTable.class, simpleTable);
+        casquatchDao.getById(SimpleTable.class, new SimpleTable(1,1));
+        casquatchDao.delete(SimpleTable.class, new SimpleTable(1,1));
+
+        AbstractStatementFactory.StatementCacheStats after = casquatchDao.getStatementCacheStats(SimpleTable.class);
+        assertEquals(warmed.getMisses(), after.getMisses());
+        assertEquals(3, after.getSize());
+    }
+
+}
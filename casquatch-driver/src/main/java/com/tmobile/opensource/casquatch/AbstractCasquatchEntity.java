@@ -31,12 +31,17 @@ import java.lang.reflect.Method;
 @Slf4j
 public abstract class AbstractCasquatchEntity extends AbstractCasquatchObject {
     /**
-     * Return instance of class with only primary key set. A default implementation is provided using Reflection but an explicit procedure is recommended.
+     * Return instance of class with only primary key set. Entities processed by the annotation processor use the generated {@link CasquatchEntityMethods#keys(AbstractCasquatchEntity)},
+     * otherwise a default implementation is provided using Reflection.
      * @return instance containing only primary key
      */
     @JsonIgnore
     @CasquatchIgnore
     public AbstractCasquatchEntity keys() {
+        CasquatchEntityMethods<AbstractCasquatchEntity> entityMethods = entityMethods();
+        if(entityMethods != null) {
+            return entityMethods.keys(this);
+        }
         Class<? extends AbstractCasquatchEntity> entityClass = this.getClass();
         AbstractCasquatchEntity entity;
         try {
@@ -17,53 +17,119 @@
 package com.tmobile.opensource.casquatch;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tmobile.opensource.casquatch.annotation.CasquatchIgnore;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
 
 /**
- * Abstract Entity class to extend Casquatch entities with expected functionality
+ * Abstract Entity class to extend Casquatch entities with expected functionality.
+ *
+ * Entities processed by the annotation processor use the generated {@link CasquatchEntityMethods}. Other objects fall back to reflection
  */
 @Slf4j
 abstract class AbstractCasquatchObject {
 
+    /**
+     * Generated entity methods of each class, null when none were generated
+     */
+    private static final ClassValue<CasquatchEntityMethods<AbstractCasquatchEntity>> ENTITY_METHODS = new ClassValue<CasquatchEntityMethods<AbstractCasquatchEntity>>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected CasquatchEntityMethods<AbstractCasquatchEntity> computeValue(Class<?> type) {
+            if(!AbstractCasquatchEntity.class.isAssignableFrom(type)) {
+                return null;
+            }
+            try {
+                return (CasquatchEntityMethods<AbstractCasquatchEntity>) Class.forName(CasquatchNamingConvention.classToEntityMethods(type.getName()), true, type.getClassLoader()).newInstance();
+            }
+            catch (ClassNotFoundException e) {
+                log.trace("No generated entity methods for {}. Using reflection",type);
+                return null;
+            }
+            catch (Exception e) {
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_GENERATED_CLASS, "Unable to instantiate entity methods of "+type.getName());
+            }
+        }
+    };
+
+    /**
+     * Get the generated entity methods of this class
+     * @return entity methods or null if not generated
+     */
+    CasquatchEntityMethods<AbstractCasquatchEntity> entityMethods() {
+        return ENTITY_METHODS.get(this.getClass());
+    }
+
     /**
      * Compare two objects for equality
      * @param obj object to compare to
      * @return boolean indicating equality
      */
     public boolean equals(Object obj) {
-        if(obj==null) {
+        if(this==obj) {
+            return true;
+        }
+        else if(obj==null) {
             return false;
         }
         else if(!this.getClass().equals(obj.getClass())) {
             log.trace("Class does not match "+this.getClass()+" != "+obj.getClass());
             return false;
         }
-        else {
-            Class c = this.getClass();
-            for (Method method : c.getDeclaredMethods()) {
-                if (method.getName().startsWith("get") &&
-                        !method.isAnnotationPresent(com.fasterxml.jackson.annotation.JsonIgnore.class) &&
-                        !method.isAnnotationPresent(com.tmobile.opensource.casquatch.annotation.CasquatchIgnore.class)) {
-                    try {
-                        if (!(method.invoke(this) == null && method.invoke(obj)==null) && !method.invoke(obj).equals(method.invoke(this))) {
-                            log.trace("No match on {}",method.getName());
-                            return false;
-                        }
-
-                    } catch (Exception e) {
-                        throw new DriverException(e);
-                    }
+        CasquatchEntityMethods<AbstractCasquatchEntity> entityMethods = entityMethods();
+        if(entityMethods != null) {
+            return entityMethods.equals((AbstractCasquatchEntity) this, (AbstractCasquatchEntity) obj);
+        }
+        for (Method method : getMethods()) {
+            try {
+                if (!Objects.equals(method.invoke(this), method.invoke(obj))) {
+                    log.trace("No match on {}",method.getName());
+                    return false;
                 }
+            } catch (Exception e) {
+                throw new DriverException(e);
             }
         }
         return true;
     }
 
+    /**
+     * Hash the object consistently with {@link AbstractCasquatchObject#equals(Object)}
+     * @return hash code
+     */
+    public int hashCode() {
+        CasquatchEntityMethods<AbstractCasquatchEntity> entityMethods = entityMethods();
+        if(entityMethods != null) {
+            return entityMethods.hashCode((AbstractCasquatchEntity) this);
+        }
+        int hash = 1;
+        for (Method method : getMethods()) {
+            try {
+                hash = 31 * hash + Objects.hashCode(method.invoke(this));
+            } catch (Exception e) {
+                throw new DriverException(e);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Private function to get the getters compared by reflection, sorted by name for a stable hash
+     * @return getters without JsonIgnore or CasquatchIgnore
+     */
+    private Method[] getMethods() {
+        return Arrays.stream(this.getClass().getDeclaredMethods())
+                .filter(method -> method.getName().startsWith("get") && method.getParameterCount()==0 &&
+                        !method.isAnnotationPresent(JsonIgnore.class) &&
+                        !method.isAnnotationPresent(CasquatchIgnore.class))
+                .sorted(Comparator.comparing(Method::getName))
+                .toArray(Method[]::new);
+    }
+
     /**
      * Return ddl statement to create the table
      * @return ddl to create table
@@ -75,14 +141,14 @@ abstract class AbstractCasquatchObject {
     }
 
     /**
-     * Return object as json string
+     * Return object as json. Entities and types use the same format
      * @return json representation of object
      */
     public String toString() {
-        try {
-            return new ObjectMapper().writeValueAsString(this);
-        } catch (JsonProcessingException e) {
-            return "Unable to convert to JSON";
+        CasquatchEntityMethods<AbstractCasquatchEntity> entityMethods = entityMethods();
+        if(entityMethods != null) {
+            return entityMethods.toString((AbstractCasquatchEntity) this);
         }
+        return CasquatchObjectMapper.toJson(this);
     }
 }
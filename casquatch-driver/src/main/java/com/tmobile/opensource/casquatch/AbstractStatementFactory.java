@@ -18,11 +18,19 @@ package com.tmobile.opensource.casquatch;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.data.GettableByName;
 import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.querybuilder.BuildableQuery;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.delete.Delete;
@@ -30,14 +38,25 @@ import com.datastax.oss.driver.api.querybuilder.delete.DeleteSelection;
 import com.datastax.oss.driver.api.querybuilder.insert.InsertInto;
 import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
 
@@ -56,6 +75,65 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
         @Getter String solrQuery;
     }
 
+    /**
+     * Operations which result in a prepared statement
+     */
+    protected enum Operation {
+        COUNT,
+        COUNT_SOLR,
+        DELETE,
+        GET,
+        GET_IN,
+        GET_SOLR,
+        SAVE,
+        SCAN,
+        SCAN_FROM,
+        SCAN_TO
+    }
+
+    /**
+     * Shape of a statement. Requests sharing a shape share a prepared statement and only differ in bound values.
+     */
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    protected static class StatementShape {
+        private final Operation operation;
+        private final BitSet columns;
+        private final boolean limit;
+        private final boolean ttl;
+    }
+
+    /**
+     * Point in time counters for the prepared statement cache
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class StatementCacheStats {
+        private final long hits;
+        private final long misses;
+        private final int size;
+
+        /**
+         * Return stats as a string
+         * @return string representation of stats
+         */
+        public String toString() {
+            return String.format("hits=%d, misses=%d, size=%d",this.hits,this.misses,this.size);
+        }
+    }
+
+    /**
+     * Maximum number of column definitions with cached indexes. Statements which are not prepared return new column definitions for every result,
+     * so admission is frequency aware and keys are weak to keep those results from evicting the shapes of prepared statements
+     */
+    private static final int MAX_CACHED_COLUMN_DEFINITIONS = 64;
+
+    /**
+     * Cached indexes of column definitions which do not contain every column
+     */
+    private static final int[] MAP_BY_NAME = new int[0];
+
     protected final DeleteSelection deleteStart;
     protected final InsertInto insertStart;
     protected final Select selectAllStart;
@@ -64,6 +142,11 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
     protected final Select selectSolrCountStart;
     protected final CqlSession session;
     protected final Class<E> entityClass;
+    private final ConcurrentMap<StatementShape,PreparedStatement> preparedStatementCache = new ConcurrentHashMap<>();
+    private final LongAdder preparedStatementCacheHits = new LongAdder();
+    private final LongAdder preparedStatementCacheMisses = new LongAdder();
+    private final Cache<ColumnDefinitions,int[]> columnIndexCache = Caffeine.newBuilder().weakKeys().maximumSize(MAX_CACHED_COLUMN_DEFINITIONS).build();
+    private volatile TypeCodec<Object>[] columnCodecs;
 
     /**
      * Query Factory Constructor
@@ -82,21 +165,62 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
     }
 
     /**
-     * Populate bind values of query using the provided object
+     * Populate bind values of query using the provided object. Markers are bound by index in column order for each column present in the shape.
      * @param boundStatementBuilder bound statement to bind to
      * @param obj partially populated object
-     * @param queryOptions query options to apply
+     * @param columns columns present in the statement shape
      * @return bound statement builder containing bound values
      */
-    protected abstract BoundStatementBuilder bindObject(BoundStatementBuilder boundStatementBuilder, E obj, QueryOptions queryOptions);
+    protected abstract BoundStatementBuilder bindObject(BoundStatementBuilder boundStatementBuilder, E obj, BitSet columns);
 
     /**
-     * Create delete statement for object
+     * Determine the columns referenced by a delete statement for the provided object
      * @param obj populated object
      * @param queryOptions query options to apply
-     * @return delete statement containing object
+     * @return set of column indexes, see {@link AbstractStatementFactory#getColumns()}
      */
-    protected abstract Delete deleteObject(E obj, QueryOptions queryOptions);
+    protected abstract BitSet deleteColumns(E obj, QueryOptions queryOptions);
+
+    /**
+     * Get the cql column names. The position of a column is its index within a statement shape
+     * @return ordered array of column names
+     */
+    public abstract String[] getColumns();
+
+    /**
+     * Get the value of a column of an object in its driver representation. UDT columns are returned as their Type, encoded by its {@link AbstractTypeCodec}
+     * @param obj populated object
+     * @param index index of the column, see {@link AbstractStatementFactory#getColumns()}
+     * @return value of the column
+     */
+    protected abstract Object getColumnValue(E obj, int index);
+
+    /**
+     * Get the number of key columns. Key columns are always first in {@link AbstractStatementFactory#getColumns()}
+     * @return number of partition and clustering columns
+     */
+    public abstract int getKeyColumnCount();
+
+    /**
+     * Get the number of partition key columns. Partition key columns are always first in {@link AbstractStatementFactory#getColumns()}
+     * @return number of partition columns
+     */
+    public abstract int getPartitionKeyCount();
+
+    /**
+     * Get the value of a key column of an object
+     * @param obj populated object
+     * @param index index of the key column
+     * @return value of the key column
+     */
+    protected abstract Object getKeyValue(E obj, int index);
+
+    /**
+     * Get the class of a key column
+     * @param index index of the key column
+     * @return class of the key column
+     */
+    protected abstract Class<?> getKeyType(int index);
 
     /**
      * Get the table name
@@ -105,12 +229,12 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
     public abstract CqlIdentifier getTableName();
 
     /**
-     * Create insert statement for object
+     * Determine the columns referenced by an insert statement for the provided object
      * @param obj populated object
      * @param queryOptions query options to apply
-     * @return insert statement containing object
+     * @return set of column indexes, see {@link AbstractStatementFactory#getColumns()}
      */
-    protected abstract RegularInsert insertObject(E obj, QueryOptions queryOptions);
+    protected abstract BitSet insertColumns(E obj, QueryOptions queryOptions);
 
     /**
      * Map a source to an object
@@ -120,13 +244,68 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
     protected abstract E map(GettableByName source);
 
     /**
-     * Append a where clause to a select query using non-null fields found in the provided object
-     * @param select select to append to
+     * Create an empty object
+     * @return new object
+     */
+    protected abstract E newEntity();
+
+    /**
+     * Resolve the index of each column, see {@link AbstractStatementFactory#getColumns()}, within the source. Indexes are resolved once per column definitions instance and cached,
+     * keyed by identity as column definitions do not implement equals, so results of each prepared statement shape share an entry. Entries are dropped once their column definitions are unreachable.
+     * @param source source, generally a row from a resultset
+     * @return array of indexes in column order or null if the source is not a row or does not contain every column, in which case it must be mapped by name
+     */
+    protected int[] resolveColumnIndexes(GettableByName source) {
+        if(!(source instanceof Row)) {
+            return null;
+        }
+        ColumnDefinitions columnDefinitions = ((Row) source).getColumnDefinitions();
+        int[] cached = columnIndexCache.getIfPresent(columnDefinitions);
+        if(cached==null) {
+            String[] columns = getColumns();
+            cached = new int[columns.length];
+            for(int i=0;i<columns.length;i++) {
+                cached[i]=columnDefinitions.firstIndexOf(columns[i]);
+                if(cached[i]<0) {
+                    if(log.isTraceEnabled()) log.trace("Column {} not found in result, mapping by name",columns[i]);
+                    cached=MAP_BY_NAME;
+                    break;
+                }
+            }
+            columnIndexCache.put(columnDefinitions,cached);
+        }
+        return cached==MAP_BY_NAME ? null : cached;
+    }
+
+    /**
+     * Get the generated immutable primary key of an object
+     * @param obj populated object
+     * @return primary key suitable for equality and hashing
+     */
+    protected abstract Object key(E obj);
+
+    /**
+     * Get the partition key of an object. Objects sharing a partition key are stored in the same partition
+     * @param obj populated object
+     * @return value representing the partition key, suitable for equality and hashing
+     */
+    protected abstract Object partitionKey(E obj);
+
+    /**
+     * Determine the columns referenced by the where clause of a select using non-null fields found in the provided object
      * @param obj partially populated object
      * @param queryOptions query options to apply
-     * @return select object containing where clause
+     * @return set of column indexes, see {@link AbstractStatementFactory#getColumns()}
      */
-    protected abstract Select selectWhereObject(Select select, E obj, QueryOptions queryOptions);
+    protected abstract BitSet selectColumns(E obj, QueryOptions queryOptions);
+
+    /**
+     * Set the value of a column of an object from its driver representation. UDT columns are provided as their Type, decoded by its {@link AbstractTypeCodec}
+     * @param obj object to populate
+     * @param index index of the column, see {@link AbstractStatementFactory#getColumns()}
+     * @param value value of the column
+     */
+    protected abstract void setColumnValue(E obj, int index, Object value);
 
     /**
      * Wrapper to filter out classes which cannot be queried
@@ -143,25 +322,23 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
     }
 
     /**
-     * Wrapper to bind a variable if it is marked
+     * Wrapper to bind a variable by index
      * @param boundStatementBuilder bound statement builder reference
-     * @param field field to bind
+     * @param index index of the bind marker
      * @param value value to bind
      * @param fieldClass class of field
      * @param <T> generic for field
      * @return bound statement builder with object bound
      */
-    protected <T> BoundStatementBuilder bindIfMarked(BoundStatementBuilder boundStatementBuilder, String field, T value, Class<T> fieldClass) {
-        try {
-            if (fieldClass.equals(UdtValue.class)) {
-                return boundStatementBuilder.setUdtValue(field, (UdtValue) value);
-            } else {
-                return boundStatementBuilder.set(field, value, fieldClass);
-            }
+    protected <T> BoundStatementBuilder bindIndex(BoundStatementBuilder boundStatementBuilder, int index, T value, Class<T> fieldClass) {
+        if(value==null) {
+            return boundStatementBuilder.setToNull(index);
+        }
+        else if (fieldClass.equals(UdtValue.class)) {
+            return boundStatementBuilder.setUdtValue(index, (UdtValue) value);
         }
-        catch (java.lang.IllegalArgumentException e) {
-            log.trace("Failed to bind {}: {}",field,e.getMessage());
-            return boundStatementBuilder;
+        else {
+            return boundStatementBuilder.set(index, value, fieldClass);
         }
     }
 
@@ -169,49 +346,218 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
      * Populate bind values of query using the provided object
      * @param boundStatementBuilder bound statement to bind to
      * @param obj partially populated object
-     * @param queryOptions query options to apply
      * @return bound statement builder containing bound values
      */
-    protected BoundStatementBuilder bindObject(BoundStatementBuilder boundStatementBuilder, SolrQueryEntity obj, QueryOptions queryOptions) {
-        return boundStatementBuilder.setString("solr_query",obj.getSolrQuery());
+    protected BoundStatementBuilder bindObject(BoundStatementBuilder boundStatementBuilder, SolrQueryEntity obj) {
+        return boundStatementBuilder.setString(0,obj.getSolrQuery());
     }
 
     /**
-     * Produce a bound statement while applying object and query options
-     * @param buildableQuery buildable query
-     * @param obj populated object
+     * Check if a limit should be applied
      * @param queryOptions query options to apply
-     * @param bindToSession override session
-     * @return bound statement
+     * @return boolean indicating a limit is present
+     */
+    private boolean hasLimit(QueryOptions queryOptions) {
+        return queryOptions!=null && queryOptions.getLimit()!=null;
+    }
+
+    /**
+     * Check if a ttl should be applied
+     * @param queryOptions query options to apply
+     * @return boolean indicating a ttl is present
      */
-    protected BoundStatement buildBoundStatement(BuildableQuery buildableQuery, Object obj, QueryOptions queryOptions, CqlSession bindToSession) {
-        if(buildableQuery instanceof Select) {
-            if(queryOptions!=null) {
-                if(queryOptions.getLimit()!=null) {
-                    buildableQuery = ((Select) buildableQuery).limit(queryOptions.getLimit());
+    private boolean hasTtl(QueryOptions queryOptions) {
+        return queryOptions!=null && queryOptions.getTtl()!=null;
+    }
+
+    /**
+     * Build the query for a statement shape. Limit and TTL are always bind markers following the column markers.
+     * @param statementShape shape of the statement
+     * @return buildable query
+     */
+    protected BuildableQuery buildQuery(StatementShape statementShape) {
+        String[] columns = this.getColumns();
+        BitSet shapeColumns = statementShape.getColumns();
+        switch(statementShape.getOperation()) {
+            case COUNT:
+            case GET:
+                Select select = statementShape.getOperation().equals(Operation.GET)?selectAllStart:selectCountStart;
+                for(int i=shapeColumns.nextSetBit(0);i>=0;i=shapeColumns.nextSetBit(i+1)) {
+                    select=select.whereColumn(columns[i]).isEqualTo(bindMarker());
                 }
-            }
+                return statementShape.isLimit()?select.limit(bindMarker()):select;
+            case GET_IN:
+                Select selectIn = selectAllStart;
+                for(int i=shapeColumns.nextSetBit(0);i>=0;i=shapeColumns.nextSetBit(i+1)) {
+                    selectIn = shapeColumns.nextSetBit(i+1)<0 ? selectIn.whereColumn(columns[i]).in(bindMarker()) : selectIn.whereColumn(columns[i]).isEqualTo(bindMarker());
+                }
+                return selectIn;
+            case COUNT_SOLR:
+                return statementShape.isLimit()?selectSolrCountStart.limit(bindMarker()):selectSolrCountStart;
+            case GET_SOLR:
+                return statementShape.isLimit()?selectSolrStart.limit(bindMarker()):selectSolrStart;
+            case DELETE:
+                Delete delete=null;
+                for(int i=shapeColumns.nextSetBit(0);i>=0;i=shapeColumns.nextSetBit(i+1)) {
+                    delete=(delete==null?deleteStart:delete).whereColumn(columns[i]).isEqualTo(bindMarker());
+                }
+                if(delete==null) {
+                    throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Delete requires at least one key");
+                }
+                return delete;
+            case SAVE:
+                RegularInsert insert=null;
+                for(int i=shapeColumns.nextSetBit(0);i>=0;i=shapeColumns.nextSetBit(i+1)) {
+                    insert=(insert==null?insertStart:insert).value(columns[i],bindMarker());
+                }
+                if(insert==null) {
+                    throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Save requires at least one column");
+                }
+                return statementShape.isTtl()?insert.usingTtl(bindMarker()):insert;
+            case SCAN:
+            case SCAN_FROM:
+            case SCAN_TO:
+                String[] partitionKeyColumns = Arrays.copyOf(columns,getPartitionKeyCount());
+                Select scan = selectAllStart;
+                if(!statementShape.getOperation().equals(Operation.SCAN_TO)) {
+                    scan=scan.whereToken(partitionKeyColumns).isGreaterThan(bindMarker());
+                }
+                if(!statementShape.getOperation().equals(Operation.SCAN_FROM)) {
+                    scan=scan.whereToken(partitionKeyColumns).isLessThanOrEqualTo(bindMarker());
+                }
+                return scan;
+            default:
+                throw new DriverException(DriverException.CATEGORIES.UNHANDLED_CASQUATCH, String.format("Unknown operation %s",statementShape.getOperation()));
         }
-        else if (buildableQuery instanceof RegularInsert) {
-            if(queryOptions.getTtl()!=null) {
-                buildableQuery = ((RegularInsert) buildableQuery).usingTtl(queryOptions.getTtl());
-            }
+    }
+
+    /**
+     * Get the prepared statement for a shape, preparing it on first use
+     * @param statementShape shape of the statement
+     * @param bindToSession session to prepare on. Only statements prepared on the factory session are cached
+     * @return prepared statement
+     */
+    protected PreparedStatement getPreparedStatement(StatementShape statementShape, CqlSession bindToSession) {
+        if(bindToSession!=this.session) {
+            return bindToSession.prepare(buildQuery(statementShape).build());
+        }
+        PreparedStatement preparedStatement = preparedStatementCache.get(statementShape);
+        if(preparedStatement!=null) {
+            preparedStatementCacheHits.increment();
+            return preparedStatement;
         }
-        SimpleStatement simpleStatement = buildableQuery.build();
+        preparedStatementCacheMisses.increment();
+        SimpleStatement simpleStatement = buildQuery(statementShape).build();
+        if(log.isTraceEnabled()) log.trace("Preparing Statement {}",simpleStatement.getQuery());
+        preparedStatement = bindToSession.prepare(simpleStatement);
+        PreparedStatement existing = preparedStatementCache.putIfAbsent(statementShape,preparedStatement);
+        if(existing!=null) {
+            return existing;
+        }
+        if(log.isDebugEnabled()) log.debug("Prepared Statement Cache for {} now holds {} variants",this.entityClass.getSimpleName(),preparedStatementCache.size());
+        return preparedStatement;
+    }
 
+    /**
+     * Prepare the statement for a shape asynchronously and add it to the cache
+     * @param statementShape shape of the statement
+     * @return future completing with the prepared statement
+     */
+    protected CompletableFuture<PreparedStatement> prepareAsync(StatementShape statementShape) {
+        PreparedStatement preparedStatement = preparedStatementCache.get(statementShape);
+        if(preparedStatement!=null) {
+            return CompletableFuture.completedFuture(preparedStatement);
+        }
+        SimpleStatement simpleStatement = buildQuery(statementShape).build();
         if(log.isTraceEnabled()) log.trace("Preparing Statement {}",simpleStatement.getQuery());
-        BoundStatementBuilder boundStatementBuilder = bindToSession.prepare(simpleStatement).boundStatementBuilder();
+        return this.session.prepareAsync(simpleStatement).toCompletableFuture().thenApply(prepared -> {
+            PreparedStatement existing = preparedStatementCache.putIfAbsent(statementShape,prepared);
+            return existing!=null?existing:prepared;
+        });
+    }
+
+    /**
+     * Prepare the common statement shapes for the provided operations: get, count and delete by full key and save of all columns.
+     * Save only skips null columns when nulls are not persisted, so only full row saves, or every save when the default query options persist nulls, use the warmed statement.
+     * @param operations operations to prepare
+     * @param queryOptions default query options which determine the ttl of the save statement
+     * @return future completing with the number of statements prepared
+     */
+    protected CompletableFuture<Integer> warmUp(Set<Operation> operations, QueryOptions queryOptions) {
+        BitSet keyColumns = new BitSet(getColumns().length);
+        keyColumns.set(0,getKeyColumnCount());
+        BitSet allColumns = new BitSet(getColumns().length);
+        allColumns.set(0,getColumns().length);
+
+        List<CompletableFuture<PreparedStatement>> futures = new ArrayList<>();
+        for(Operation operation : operations) {
+            switch(operation) {
+                case GET:
+                    futures.add(prepareAsync(new StatementShape(Operation.GET, keyColumns, true, false)));
+                    break;
+                case COUNT:
+                    futures.add(prepareAsync(new StatementShape(Operation.COUNT, keyColumns, true, false)));
+                    break;
+                case DELETE:
+                    futures.add(prepareAsync(new StatementShape(Operation.DELETE, keyColumns, false, false)));
+                    break;
+                case SAVE:
+                    futures.add(prepareAsync(new StatementShape(Operation.SAVE, allColumns, false, hasTtl(queryOptions))));
+                    break;
+                default:
+                    if(log.isDebugEnabled()) log.debug("Skipping warm up of {} for {}",operation,this.entityClass.getSimpleName());
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(v -> futures.size());
+    }
+
+    /**
+     * Get the counters of the prepared statement cache. A large size indicates a high number of statement variants for this entity.
+     * @return point in time statistics
+     */
+    public StatementCacheStats getStatementCacheStats() {
+        return new StatementCacheStats(preparedStatementCacheHits.sum(),preparedStatementCacheMisses.sum(),preparedStatementCache.size());
+    }
+
+    /**
+     * Produce a bound statement while applying object and query options
+     * @param statementShape shape of the statement
+     * @param obj populated object
+     * @param queryOptions query options to apply
+     * @param bindToSession override session
+     * @return bound statement
+     */
+    protected BoundStatement buildBoundStatement(StatementShape statementShape, Object obj, QueryOptions queryOptions, CqlSession bindToSession) {
+        BoundStatementBuilder boundStatementBuilder = getPreparedStatement(statementShape,bindToSession).boundStatementBuilder();
+        int markerIndex;
         if(obj.getClass().equals(this.entityClass)) {
             //noinspection unchecked
-            boundStatementBuilder=bindObject(boundStatementBuilder,(E) obj,queryOptions);
+            boundStatementBuilder=bindObject(boundStatementBuilder,(E) obj,statementShape.getColumns());
+            markerIndex=statementShape.getColumns().cardinality();
         }
         else if (obj.getClass().equals(SolrQueryEntity.class)) {
-            //noinspection unchecked
-            boundStatementBuilder=bindObject(boundStatementBuilder,(SolrQueryEntity) obj,queryOptions);
+            boundStatementBuilder=bindObject(boundStatementBuilder,(SolrQueryEntity) obj);
+            markerIndex=1;
         }
         else {
             throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_GENERATED_CLASS, "Unknown class");
         }
+        if(statementShape.isLimit()) {
+            boundStatementBuilder=boundStatementBuilder.setInt(markerIndex++,queryOptions.getLimit());
+        }
+        if(statementShape.isTtl()) {
+            boundStatementBuilder=boundStatementBuilder.setInt(markerIndex,queryOptions.getTtl());
+        }
+        return applyQueryOptions(boundStatementBuilder,queryOptions).build();
+    }
+
+    /**
+     * Apply the consistency level and execution profile of query options
+     * @param boundStatementBuilder bound statement builder reference
+     * @param queryOptions query options to apply
+     * @return bound statement builder with options applied
+     */
+    private BoundStatementBuilder applyQueryOptions(BoundStatementBuilder boundStatementBuilder, QueryOptions queryOptions) {
         if(queryOptions!=null) {
             if (queryOptions.getConsistencyLevel() != null) {
                 boundStatementBuilder = boundStatementBuilder.setConsistencyLevel(queryOptions.getConsistencyLevel());
@@ -220,7 +566,24 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
                 boundStatementBuilder = boundStatementBuilder.setExecutionProfileName(queryOptions.getProfile());
             }
         }
-        return boundStatementBuilder.build();
+        return boundStatementBuilder;
+    }
+
+    /**
+     * Bind the values of a key column of several objects as a list
+     * @param boundStatementBuilder bound statement builder reference
+     * @param index index of the bind marker and key column
+     * @param objs populated objects
+     * @param keyType class of the key column
+     * @param <T> generic for key column
+     * @return bound statement builder with list bound
+     */
+    private <T> BoundStatementBuilder bindKeyValues(BoundStatementBuilder boundStatementBuilder, int index, List<E> objs, Class<T> keyType) {
+        List<T> values = new ArrayList<>(objs.size());
+        for(E obj : objs) {
+            values.add(keyType.cast(getKeyValue(obj,index)));
+        }
+        return boundStatementBuilder.setList(index,values,keyType);
     }
 
     /**
@@ -233,7 +596,7 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
      * @return bound statement for the query
      */
     public BoundStatement count(E obj, QueryOptions queryOptions) {
-        return buildBoundStatement(selectWhereObject(selectCountStart, obj, queryOptions),obj, queryOptions, this.session);
+        return buildBoundStatement(new StatementShape(Operation.COUNT,selectColumns(obj,queryOptions),hasLimit(queryOptions),false),obj,queryOptions,this.session);
     }
 
     /**
@@ -246,7 +609,7 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
      * @return bound statement for the query
      */
     public BoundStatement countSolr(String solrQuery, QueryOptions queryOptions) {
-        return buildBoundStatement(selectSolrCountStart,new SolrQueryEntity(solrQuery), queryOptions, this.session);
+        return buildBoundStatement(new StatementShape(Operation.COUNT_SOLR,new BitSet(),hasLimit(queryOptions),false),new SolrQueryEntity(solrQuery),queryOptions,this.session);
     }
 
     /**
@@ -259,7 +622,7 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
      * @return bound statement for the query
      */
     public BoundStatement delete(E obj, QueryOptions queryOptions) {
-        return buildBoundStatement(deleteObject(obj, queryOptions), obj,queryOptions,this.session);
+        return buildBoundStatement(new StatementShape(Operation.DELETE,deleteColumns(obj,queryOptions),false,false),obj,queryOptions,this.session);
     }
 
     /**
@@ -272,7 +635,40 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
      * @return bound statement for the query
      */
     public BoundStatement get(E obj, QueryOptions queryOptions) {
-        return buildBoundStatement(selectWhereObject(selectAllStart, obj, queryOptions), obj,queryOptions,this.session);
+        return buildBoundStatement(new StatementShape(Operation.GET,selectColumns(obj,queryOptions),hasLimit(queryOptions),false),obj,queryOptions,this.session);
+    }
+
+    /**
+     * Check if several rows of a partition can be read in one statement. Requires at least one clustering column
+     * @return boolean indicating {@link AbstractStatementFactory#getIn(List, QueryOptions)} is supported
+     */
+    public boolean supportsGetIn() {
+        return getKeyColumnCount() > getPartitionKeyCount();
+    }
+
+    /**
+     * Create a get statement for several objects which share every key column except the last clustering column
+     *
+     * Example: select [COL1...COLN] from TABLE where KEY=? and CLUSTERING in ?
+     *
+     * @param objs objects with all keys populated
+     * @param queryOptions query options to apply
+     * @return bound statement for the query
+     */
+    public BoundStatement getIn(List<E> objs, QueryOptions queryOptions) {
+        if(!supportsGetIn()) {
+            throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, String.format("%s has no clustering column to query with IN",this.entityClass.getSimpleName()));
+        }
+        int last = getKeyColumnCount()-1;
+        BitSet keyColumns = new BitSet(getColumns().length);
+        keyColumns.set(0,getKeyColumnCount());
+        BitSet equalityColumns = new BitSet(getColumns().length);
+        equalityColumns.set(0,last);
+
+        BoundStatementBuilder boundStatementBuilder = getPreparedStatement(new StatementShape(Operation.GET_IN,keyColumns,false,false),this.session).boundStatementBuilder();
+        boundStatementBuilder = bindObject(boundStatementBuilder,objs.get(0),equalityColumns);
+        boundStatementBuilder = bindKeyValues(boundStatementBuilder,last,objs,getKeyType(last));
+        return applyQueryOptions(boundStatementBuilder,queryOptions).build();
     }
 
     /**
@@ -285,7 +681,7 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
      * @return bound statement for the query
      */
     public BoundStatement getSolr(String solrQuery, QueryOptions queryOptions) {
-        return buildBoundStatement(selectSolrStart,new SolrQueryEntity(solrQuery),queryOptions,this.session);
+        return buildBoundStatement(new StatementShape(Operation.GET_SOLR,new BitSet(),hasLimit(queryOptions),false),new SolrQueryEntity(solrQuery),queryOptions,this.session);
     }
 
     /**
@@ -298,9 +694,150 @@ public abstract class AbstractStatementFactory<E extends AbstractCasquatchEntity
      * @return simple statement for the query
      */
     public BoundStatement save(E obj, QueryOptions queryOptions) {
-        return buildBoundStatement(insertObject(obj,queryOptions),obj, queryOptions,this.session);
+        return buildBoundStatement(new StatementShape(Operation.SAVE,insertColumns(obj,queryOptions),false,hasTtl(queryOptions)),obj,queryOptions,this.session);
+    }
+
+    /**
+     * Create the statements to read every row of a token range. A range which wraps around the ring, or covers the full ring, is read with two statements
+     *
+     * Example: select [COL1...COLN] from TABLE where token(KEY)&gt;? and token(KEY)&lt;=?
+     *
+     * @param tokenRange token range to read
+     * @param queryOptions query options to apply
+     * @return bound statements for the query
+     */
+    @SuppressWarnings("unchecked")
+    public List<BoundStatement> scan(TokenRange tokenRange, QueryOptions queryOptions) {
+        List<BoundStatement> statements = new ArrayList<>(2);
+        if(tokenRange.isWrappedAround() || tokenRange.isFullRing()) {
+            //Full ring starts and ends at the same token so is read as a range wrapping around from that token
+            statements.add(buildScanStatement(Operation.SCAN_FROM,tokenRange.getStart(),null,queryOptions));
+            statements.add(buildScanStatement(Operation.SCAN_TO,null,tokenRange.getEnd(),queryOptions));
+        }
+        else if(((Comparable<Token>) tokenRange.getStart()).compareTo(tokenRange.getEnd())>0) {
+            //Range ends at the minimum token which covers the remainder of the ring
+            statements.add(buildScanStatement(Operation.SCAN_FROM,tokenRange.getStart(),null,queryOptions));
+        }
+        else {
+            statements.add(buildScanStatement(Operation.SCAN,tokenRange.getStart(),tokenRange.getEnd(),queryOptions));
+        }
+        return statements;
+    }
+
+    /**
+     * Produce a bound statement for a scan, routed to the replicas of the end token when bounded
+     * @param operation scan operation determining the bounds present
+     * @param start exclusive start token or null if unbounded
+     * @param end inclusive end token or null if unbounded
+     * @param queryOptions query options to apply
+     * @return bound statement
+     */
+    private BoundStatement buildScanStatement(Operation operation, Token start, Token end, QueryOptions queryOptions) {
+        BitSet partitionKeyColumns = new BitSet(getColumns().length);
+        partitionKeyColumns.set(0,getPartitionKeyCount());
+        BoundStatementBuilder boundStatementBuilder = getPreparedStatement(new StatementShape(operation,partitionKeyColumns,false,false),this.session).boundStatementBuilder();
+        int markerIndex=0;
+        if(start!=null) {
+            boundStatementBuilder=boundStatementBuilder.setToken(markerIndex++,start);
+        }
+        if(end!=null) {
+            boundStatementBuilder=boundStatementBuilder.setToken(markerIndex,end).setRoutingToken(end);
+        }
+        return applyQueryOptions(boundStatementBuilder,queryOptions).build();
+    }
+
+    /**
+     * Resolve the codec of each column from the table metadata. Codecs are resolved once and cached
+     * @return array of codecs in column order
+     */
+    @SuppressWarnings("unchecked")
+    private TypeCodec<Object>[] getColumnCodecs() {
+        TypeCodec<Object>[] codecs = this.columnCodecs;
+        if(codecs==null) {
+            TableMetadata tableMetadata = session.getMetadata()
+                    .getKeyspace(session.getKeyspace().orElseThrow(() -> new DriverException(DriverException.CATEGORIES.CASQUATCH_INVALID_CONFIGURATION, "Keyspace not defined")))
+                    .flatMap(ks -> ks.getTable(this.getTableName())).orElseThrow(() -> new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_GENERATED_CLASS, "Missing table definition"));
+            String[] columns = getColumns();
+            codecs = (TypeCodec<Object>[]) new TypeCodec<?>[columns.length];
+            for(int i=0;i<columns.length;i++) {
+                String column = columns[i];
+                codecs[i] = session.getContext().getCodecRegistry().codecFor(tableMetadata.getColumn(column).orElseThrow(() -> new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_GENERATED_CLASS, "Missing column definition for "+column)).getType());
+            }
+            this.columnCodecs=codecs;
+        }
+        return codecs;
     }
 
+    /**
+     * Encode an object to a compact binary form. Each column is written as its length, -1 for null, followed by the value in the native protocol encoding
+     * @param obj populated object
+     * @param allocator allocates a buffer with at least the provided number of bytes remaining
+     * @return allocated buffer positioned after the encoded object
+     */
+    protected ByteBuffer encode(E obj, IntFunction<ByteBuffer> allocator) {
+        return encode(obj, getColumns().length, allocator);
+    }
 
+    /**
+     * Encode the key columns of an object in the form of {@link AbstractStatementFactory#encode(AbstractCasquatchEntity, IntFunction)}
+     * @param obj object with key columns populated
+     * @return flipped heap buffer containing the encoded key
+     */
+    protected ByteBuffer encodeKey(E obj) {
+        ByteBuffer buffer = encode(obj, getKeyColumnCount(), ByteBuffer::allocate);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Encode the first columns of an object
+     * @param obj populated object
+     * @param columnCount number of columns to encode
+     * @param allocator allocates a buffer with at least the provided number of bytes remaining
+     * @return allocated buffer positioned after the encoded columns
+     */
+    private ByteBuffer encode(E obj, int columnCount, IntFunction<ByteBuffer> allocator) {
+        TypeCodec<Object>[] codecs = getColumnCodecs();
+        ByteBuffer[] values = new ByteBuffer[columnCount];
+        int size = 0;
+        for(int i=0;i<columnCount;i++) {
+            Object value = getColumnValue(obj,i);
+            values[i] = value==null ? null : codecs[i].encode(value,ProtocolVersion.DEFAULT);
+            size += 4 + (values[i]==null ? 0 : values[i].remaining());
+        }
+        ByteBuffer buffer = allocator.apply(size);
+        for(ByteBuffer value : values) {
+            if(value==null) {
+                buffer.putInt(-1);
+            }
+            else {
+                buffer.putInt(value.remaining());
+                buffer.put(value.duplicate());
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Decode an object written by {@link AbstractStatementFactory#encode(AbstractCasquatchEntity, IntFunction)} or {@link AbstractStatementFactory#encodeKey(AbstractCasquatchEntity)}.
+     * Decoding stops at the limit of the buffer. The position of the buffer is not modified
+     * @param buffer buffer positioned at the start of the encoded object
+     * @return populated object
+     */
+    protected E decode(ByteBuffer buffer) {
+        TypeCodec<Object>[] codecs = getColumnCodecs();
+        ByteBuffer source = buffer.duplicate();
+        E obj = newEntity();
+        for(int i=0;i<codecs.length && source.hasRemaining();i++) {
+            int length = source.getInt();
+            if(length>=0) {
+                ByteBuffer value = source.slice();
+                value.limit(length);
+                source.position(source.position()+length);
+                setColumnValue(obj,i,codecs[i].decode(value,ProtocolVersion.DEFAULT));
+            }
+        }
+        return obj;
+    }
 
 }
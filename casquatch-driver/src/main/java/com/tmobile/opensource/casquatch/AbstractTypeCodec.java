@@ -0,0 +1,246 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+/**
+ * Abstract class for Type Codecs which encode Type objects directly to and from the UDT wire format.
+ *
+ * The codec matches the UDT by name and resolves the field layout from the first definition it is asked to accept, e.g. the column
+ * of a table or prepared statement. A definition with different fields, such as after an ALTER TYPE, replaces the layout.
+ * The codec is bound to the keyspace of that first definition. A UDT of the same name in another keyspace is not accepted and is left to the driver's UdtValue codec,
+ * as the registry caches the codec for a type and encoding one keyspace's layout with another's would write fields to the wrong positions.
+ * @param <T> Type reference
+ */
+public abstract class AbstractTypeCodec<T extends AbstractCasquatchType> implements TypeCodec<T> {
+
+    private final GenericType<T> javaType;
+    private final CqlIdentifier name;
+    private final List<String> fields;
+    private final GenericType<?>[] fieldTypes;
+    private volatile Layout layout;
+
+    /**
+     * Field layout of a UDT definition
+     */
+    private class Layout {
+        private final UserDefinedType userDefinedType;
+        private final CodecRegistry codecRegistry;
+        private final int[] fieldIndexes;
+        private final TypeCodec<Object>[] fieldCodecs;
+
+        /**
+         * Map each field of the definition to a field of the Type and resolve its codec
+         * @param userDefinedType UDT definition
+         */
+        @SuppressWarnings("unchecked")
+        private Layout(UserDefinedType userDefinedType) {
+            this.userDefinedType = userDefinedType;
+            this.codecRegistry = userDefinedType.getAttachmentPoint().getCodecRegistry();
+            List<CqlIdentifier> fieldNames = userDefinedType.getFieldNames();
+            this.fieldIndexes = new int[fieldNames.size()];
+            this.fieldCodecs = (TypeCodec<Object>[]) new TypeCodec<?>[fieldNames.size()];
+            for(int i=0;i<fieldNames.size();i++) {
+                fieldIndexes[i] = fields.indexOf(fieldNames.get(i).asInternal());
+                if(fieldIndexes[i]>=0) {
+                    fieldCodecs[i] = (TypeCodec<Object>) codecRegistry.codecFor(userDefinedType.getFieldTypes().get(i), fieldTypes[fieldIndexes[i]]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Construct a TypeCodec for a UDT
+     * @param typeClass class of the Type
+     * @param name name of the UDT
+     * @param fields CQL names of the fields of the Type
+     * @param fieldTypes java types of the fields of the Type
+     */
+    protected AbstractTypeCodec(Class<T> typeClass, String name, String[] fields, GenericType<?>[] fieldTypes) {
+        this.javaType = GenericType.of(typeClass);
+        this.name = CqlIdentifier.fromCql(name);
+        this.fields = Arrays.asList(fields);
+        this.fieldTypes = fieldTypes;
+    }
+
+    /**
+     * Create a new codec for each Type registered by a {@link CasquatchEntityRegistry}
+     * @return array of codecs to add to a session
+     */
+    public static TypeCodec<?>[] loadTypeCodecs() {
+        Map<Class<? extends AbstractCasquatchType>, TypeCodec<?>> typeCodecs = new LinkedHashMap<>();
+        for(CasquatchEntityRegistry casquatchEntityRegistry : ServiceLoader.load(CasquatchEntityRegistry.class, AbstractTypeCodec.class.getClassLoader())) {
+            for(Map.Entry<Class<? extends AbstractCasquatchType>, Supplier<AbstractTypeCodec<?>>> entry : casquatchEntityRegistry.getTypeCodecs().entrySet()) {
+                typeCodecs.computeIfAbsent(entry.getKey(), k -> entry.getValue().get());
+            }
+        }
+        return typeCodecs.values().toArray(new TypeCodec<?>[0]);
+    }
+
+    /**
+     * Create an empty object
+     * @return new object
+     */
+    protected abstract T newInstance();
+
+    /**
+     * Get the value of a field
+     * @param obj populated object
+     * @param index index of the field
+     * @return value of the field
+     */
+    protected abstract Object getField(T obj, int index);
+
+    /**
+     * Set the value of a field
+     * @param obj object to populate
+     * @param index index of the field
+     * @param value value of the field
+     */
+    protected abstract void setField(T obj, int index, Object value);
+
+    /**
+     * Get the layout of the UDT definition accepted by this codec
+     * @return layout
+     */
+    private Layout getLayout() {
+        Layout current = this.layout;
+        if(current==null) {
+            throw new DriverException(DriverException.CATEGORIES.CASQUATCH_INVALID_CONFIGURATION, String.format("UDT %s has not been resolved from a table or prepared statement",name.asCql(true)));
+        }
+        return current;
+    }
+
+    /**
+     * Get the UdtValue codec of the accepted UDT definition
+     * @return UdtValue codec
+     */
+    private TypeCodec<UdtValue> getUdtValueCodec() {
+        Layout current = getLayout();
+        return current.codecRegistry.codecFor(current.userDefinedType, UdtValue.class);
+    }
+
+    @Override
+    public GenericType<T> getJavaType() {
+        return javaType;
+    }
+
+    @Override
+    public DataType getCqlType() {
+        return getLayout().userDefinedType;
+    }
+
+    @Override
+    public boolean accepts(DataType cqlType) {
+        if(!(cqlType instanceof UserDefinedType) || !((UserDefinedType) cqlType).getName().equals(name)) {
+            return false;
+        }
+        UserDefinedType userDefinedType = (UserDefinedType) cqlType;
+        Layout current = this.layout;
+        if(current!=null && current.userDefinedType==userDefinedType) {
+            return true;
+        }
+        synchronized (this) {
+            current = this.layout;
+            if(current!=null && !current.userDefinedType.getKeyspace().equals(userDefinedType.getKeyspace())) {
+                return false;
+            }
+            if(current==null || !current.userDefinedType.getFieldNames().equals(userDefinedType.getFieldNames())) {
+                this.layout = new Layout(userDefinedType);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ByteBuffer encode(T value, ProtocolVersion protocolVersion) {
+        if(value==null) {
+            return null;
+        }
+        Layout current = getLayout();
+        ByteBuffer[] elements = new ByteBuffer[current.fieldIndexes.length];
+        int size = 0;
+        for(int i=0;i<elements.length;i++) {
+            Object fieldValue = current.fieldIndexes[i]<0 ? null : getField(value, current.fieldIndexes[i]);
+            elements[i] = fieldValue==null ? null : current.fieldCodecs[i].encode(fieldValue, protocolVersion);
+            size += 4 + (elements[i]==null ? 0 : elements[i].remaining());
+        }
+        ByteBuffer result = ByteBuffer.allocate(size);
+        for(ByteBuffer element : elements) {
+            if(element==null) {
+                result.putInt(-1);
+            }
+            else {
+                result.putInt(element.remaining());
+                result.put(element.duplicate());
+            }
+        }
+        result.flip();
+        return result;
+    }
+
+    @Override
+    public T decode(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+        if(bytes==null || bytes.remaining()==0) {
+            return null;
+        }
+        Layout current = getLayout();
+        ByteBuffer input = bytes.duplicate();
+        T value = newInstance();
+        for(int i=0;i<current.fieldIndexes.length && input.hasRemaining();i++) {
+            int length = input.getInt();
+            if(length<0) {
+                continue;
+            }
+            ByteBuffer element = input.slice();
+            element.limit(length);
+            input.position(input.position()+length);
+            if(current.fieldIndexes[i]>=0) {
+                setField(value, current.fieldIndexes[i], current.fieldCodecs[i].decode(element, protocolVersion));
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public String format(T value) {
+        TypeCodec<UdtValue> udtValueCodec = getUdtValueCodec();
+        return udtValueCodec.format(udtValueCodec.decode(encode(value, ProtocolVersion.DEFAULT), ProtocolVersion.DEFAULT));
+    }
+
+    @Override
+    public T parse(String value) {
+        TypeCodec<UdtValue> udtValueCodec = getUdtValueCodec();
+        return decode(udtValueCodec.encode(udtValueCodec.parse(value), ProtocolVersion.DEFAULT), ProtocolVersion.DEFAULT);
+    }
+}
@@ -21,8 +21,10 @@ import com.datastax.oss.driver.api.core.type.UserDefinedType;
 
 /**
  * Abstract class for Type Factory to transation Type objects and UdtValue
+ * Deprecated: Please use {@link AbstractTypeCodec} which is generated by the annotation processor
  * @param <T> Type reference
  */
+@Deprecated
 public abstract class AbstractTypeFactory <T extends AbstractCasquatchType> {
     protected final UserDefinedType userDefinedType;
 
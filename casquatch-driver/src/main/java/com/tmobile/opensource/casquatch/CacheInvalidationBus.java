@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.typesafe.config.Config;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Generic cache invalidation bus. Caches publish the keys they write and evict the keys published by other members of the bus.
+ *
+ * Keys are opaque binary encodings of the primary key of an entity and are grouped by cache name.
+ */
+public abstract class CacheInvalidationBus implements AutoCloseable {
+
+    /**
+     * Start the bus. Called once before any other method
+     * @param session session of the CasquatchDao
+     * @param config contents of the cache-invalidation block
+     */
+    public abstract void start(CqlSession session, Config config);
+
+    /**
+     * Publish the invalidation of a key to other members of the bus
+     * @param cacheName name of the cache
+     * @param key encoded key
+     */
+    public abstract void publish(String cacheName, ByteBuffer key);
+
+    /**
+     * Subscribe to invalidations published by other members of the bus
+     * @param cacheName name of the cache
+     * @param listener callback for each invalidated key
+     */
+    public abstract void subscribe(String cacheName, Consumer<ByteBuffer> listener);
+
+    /**
+     * Remove a listener added with {@link CacheInvalidationBus#subscribe(String, Consumer)}
+     * @param cacheName name of the cache
+     * @param listener callback for each invalidated key
+     */
+    public abstract void unsubscribe(String cacheName, Consumer<ByteBuffer> listener);
+
+    /**
+     * Stop the bus, publishing any pending invalidations
+     */
+    @Override
+    public abstract void close();
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValue;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Object for holding database cache options.
+ */
+@Slf4j
+public class CacheOptions {
+    @Getter private Duration expiration=Duration.ofMinutes(15);
+    @Getter private Boolean invalidation=false;
+    @Getter private Long maximumSize=10000L;
+    @Getter private Duration refreshAhead;
+    @Getter private Duration staleWhileRevalidate;
+    @Getter private Duration negativeExpiration;
+    @Getter private Long offHeapMaximumSize;
+    @Getter private Path snapshotDirectory;
+    @Getter private Duration writeBehind;
+    @Getter private Long writeBehindFlushSize=1000L;
+    @Getter private Long writeBehindMaximumPending=10000L;
+    @Getter private Duration writeBehindTimeout=Duration.ofSeconds(10);
+
+    /**
+     * No Args Constructor
+     */
+    public CacheOptions() {
+
+    }
+
+    /**
+     * Create CacheOptions from Config object. Used on CasquatchDao initialization
+     * @param config populated config object
+     */
+    CacheOptions(Config config) {
+        if(log.isTraceEnabled()) {
+            log.trace("Creating Cache Options From Config");
+            for (Map.Entry<String, ConfigValue> entry : config.entrySet()) {
+                log.debug("{}: {} -> {}","Cache Options",entry.getKey(),entry.getValue().render());
+            }
+        }
+        if(config.hasPath("expiration")) this.expiration=config.getDuration("expiration");
+        if(config.hasPath("invalidation")) this.invalidation=config.getBoolean("invalidation");
+        if(config.hasPath("maximum-size")) this.maximumSize=config.getLong("maximum-size");
+        if(config.hasPath("refresh-ahead")) this.refreshAhead=config.getDuration("refresh-ahead");
+        if(config.hasPath("stale-while-revalidate")) this.staleWhileRevalidate=config.getDuration("stale-while-revalidate");
+        if(config.hasPath("negative-expiration")) this.negativeExpiration=config.getDuration("negative-expiration");
+        if(config.hasPath("off-heap-maximum-size")) this.offHeapMaximumSize=config.getBytes("off-heap-maximum-size");
+        if(config.hasPath("snapshot-directory")) this.snapshotDirectory=Paths.get(config.getString("snapshot-directory"));
+        if(config.hasPath("write-behind")) this.writeBehind=config.getDuration("write-behind");
+        if(config.hasPath("write-behind-flush-size")) this.writeBehindFlushSize=config.getLong("write-behind-flush-size");
+        if(config.hasPath("write-behind-maximum-pending")) this.writeBehindMaximumPending=config.getLong("write-behind-maximum-pending");
+        if(config.hasPath("write-behind-timeout")) this.writeBehindTimeout=config.getDuration("write-behind-timeout");
+    }
+
+    /**
+     * Create CacheOptions from other CacheOptions.
+     * @param cacheOptions populated CacheOptions object
+     */
+    private CacheOptions(CacheOptions cacheOptions) {
+        this.expiration=cacheOptions.expiration;
+        this.invalidation=cacheOptions.invalidation;
+        this.maximumSize=cacheOptions.maximumSize;
+        this.refreshAhead=cacheOptions.refreshAhead;
+        this.staleWhileRevalidate=cacheOptions.staleWhileRevalidate;
+        this.negativeExpiration=cacheOptions.negativeExpiration;
+        this.offHeapMaximumSize=cacheOptions.offHeapMaximumSize;
+        this.snapshotDirectory=cacheOptions.snapshotDirectory;
+        this.writeBehind=cacheOptions.writeBehind;
+        this.writeBehindFlushSize=cacheOptions.writeBehindFlushSize;
+        this.writeBehindMaximumPending=cacheOptions.writeBehindMaximumPending;
+        this.writeBehindTimeout=cacheOptions.writeBehindTimeout;
+    }
+
+    /**
+     * Convert to string
+     * @return string representation
+     */
+    public String toString() {
+        return String.format("CacheOptions(expiration=%s, invalidation=%s, maximumSize=%d, refreshAhead=%s, staleWhileRevalidate=%s, negativeExpiration=%s, offHeapMaximumSize=%d, snapshotDirectory=%s, writeBehind=%s, writeBehindFlushSize=%d, writeBehindMaximumPending=%d, writeBehindTimeout=%s)",this.expiration,this.invalidation,this.maximumSize,this.refreshAhead,this.staleWhileRevalidate,this.negativeExpiration,this.offHeapMaximumSize,this.snapshotDirectory,this.writeBehind,this.writeBehindFlushSize,this.writeBehindMaximumPending,this.writeBehindTimeout);
+    }
+
+    /**
+     * Set expiration after write
+     * @param expiration time after which a cached object expires
+     * @return cache options with value set
+     */
+    public CacheOptions withExpiration(Duration expiration) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.expiration=expiration;
+        return cacheOptions;
+    }
+
+    /**
+     * Set invalidation. Keys set in the cache are published to the cache invalidation bus and keys published by other members are evicted
+     * @param invalidation enable invalidation
+     * @return cache options with value set
+     */
+    public CacheOptions withInvalidation(Boolean invalidation) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.invalidation=invalidation;
+        return cacheOptions;
+    }
+
+    /**
+     * Set maximum size
+     * @param maximumSize maximum number of objects to cache
+     * @return cache options with value set
+     */
+    public CacheOptions withMaximumSize(Long maximumSize) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.maximumSize=maximumSize;
+        return cacheOptions;
+    }
+
+    /**
+     * Set negative expiration. Keys which are not found are cached as missing for this time
+     * @param negativeExpiration time after which a cached not found result expires
+     * @return cache options with value set
+     */
+    public CacheOptions withNegativeExpiration(Duration negativeExpiration) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.negativeExpiration=negativeExpiration;
+        return cacheOptions;
+    }
+
+    /**
+     * Set off heap maximum size. Objects evicted from the heap are kept encoded in direct memory up to this many bytes
+     * @param offHeapMaximumSize maximum number of bytes to cache off heap
+     * @return cache options with value set
+     */
+    public CacheOptions withOffHeapMaximumSize(Long offHeapMaximumSize) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.offHeapMaximumSize=offHeapMaximumSize;
+        return cacheOptions;
+    }
+
+    /**
+     * Set refresh ahead. Entries read within this time of expiring are reloaded asynchronously
+     * @param refreshAhead time before expiration to start a refresh
+     * @return cache options with value set
+     */
+    public CacheOptions withRefreshAhead(Duration refreshAhead) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.refreshAhead=refreshAhead;
+        return cacheOptions;
+    }
+
+    /**
+     * Set snapshot directory. Caches are written to a snapshot in this directory on close and reloaded from it on creation
+     * @param snapshotDirectory directory of cache snapshots
+     * @return cache options with value set
+     */
+    public CacheOptions withSnapshotDirectory(Path snapshotDirectory) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.snapshotDirectory=snapshotDirectory;
+        return cacheOptions;
+    }
+
+    /**
+     * Set stale while revalidate. Expired entries are returned for up to this time while they are reloaded asynchronously
+     * @param staleWhileRevalidate time after expiration a stale entry may be returned
+     * @return cache options with value set
+     */
+    public CacheOptions withStaleWhileRevalidate(Duration staleWhileRevalidate) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.staleWhileRevalidate=staleWhileRevalidate;
+        return cacheOptions;
+    }
+
+    /**
+     * Set write behind. Objects set in the cache are written to the database asynchronously at this interval
+     * @param writeBehind interval between flushes of pending writes
+     * @return cache options with value set
+     */
+    public CacheOptions withWriteBehind(Duration writeBehind) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.writeBehind=writeBehind;
+        return cacheOptions;
+    }
+
+    /**
+     * Set write behind flush size. Pending writes are flushed early once this many keys are pending
+     * @param writeBehindFlushSize number of pending keys which starts a flush
+     * @return cache options with value set
+     */
+    public CacheOptions withWriteBehindFlushSize(Long writeBehindFlushSize) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.writeBehindFlushSize=writeBehindFlushSize;
+        return cacheOptions;
+    }
+
+    /**
+     * Set write behind maximum pending. Once this many keys are pending a set waits up to the write behind timeout for a flush
+     * @param writeBehindMaximumPending maximum number of pending keys
+     * @return cache options with value set
+     */
+    public CacheOptions withWriteBehindMaximumPending(Long writeBehindMaximumPending) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.writeBehindMaximumPending=writeBehindMaximumPending;
+        return cacheOptions;
+    }
+
+    /**
+     * Set write behind timeout. A set waits at most this long for pending writes to be flushed below the maximum pending, a zero timeout rejects the set immediately
+     * @param writeBehindTimeout maximum time a set waits for a flush
+     * @return cache options with value set
+     */
+    public CacheOptions withWriteBehindTimeout(Duration writeBehindTimeout) {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.writeBehindTimeout=writeBehindTimeout;
+        return cacheOptions;
+    }
+
+    /**
+     * Clear negative expiration
+     * @return cache options with value set
+     */
+    public CacheOptions withoutNegativeExpiration() {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.negativeExpiration=null;
+        return cacheOptions;
+    }
+
+    /**
+     * Clear off heap maximum size
+     * @return cache options with value set
+     */
+    public CacheOptions withoutOffHeapMaximumSize() {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.offHeapMaximumSize=null;
+        return cacheOptions;
+    }
+
+    /**
+     * Clear refresh ahead
+     * @return cache options with value set
+     */
+    public CacheOptions withoutRefreshAhead() {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.refreshAhead=null;
+        return cacheOptions;
+    }
+
+    /**
+     * Clear snapshot directory
+     * @return cache options with value set
+     */
+    public CacheOptions withoutSnapshotDirectory() {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.snapshotDirectory=null;
+        return cacheOptions;
+    }
+
+    /**
+     * Clear stale while revalidate
+     * @return cache options with value set
+     */
+    public CacheOptions withoutStaleWhileRevalidate() {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.staleWhileRevalidate=null;
+        return cacheOptions;
+    }
+
+    /**
+     * Clear write behind, writing objects synchronously on set
+     * @return cache options with value set
+     */
+    public CacheOptions withoutWriteBehind() {
+        CacheOptions cacheOptions = new CacheOptions(this);
+        cacheOptions.writeBehind=null;
+        return cacheOptions;
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of cached objects in a memory mapped file.
+ *
+ * The file starts with the time of the snapshot and the column names followed by the age, length and binary encoding of each object.
+ * A snapshot is written to a temporary file which replaces the previous snapshot on commit.
+ */
+@Slf4j
+class CacheSnapshot {
+
+    private static final int MAGIC = 0x43515331;
+    private static final int REGION_SIZE = 16*1024*1024;
+
+    /**
+     * Callback for each object read from a snapshot
+     */
+    interface EntryConsumer {
+        /**
+         * Accept an object
+         * @param ageNanos age of the object including the time since the snapshot
+         * @param encoded binary encoding of the object, valid only for the duration of the call
+         */
+        void accept(long ageNanos, ByteBuffer encoded);
+    }
+
+    private final Path file;
+    private final Path tempFile;
+    private final FileChannel channel;
+    private MappedByteBuffer region;
+    private long regionStart;
+
+    /**
+     * Open a snapshot for writing
+     * @param file snapshot file
+     * @param columns column names of the encoded objects
+     * @throws IOException unable to create the file
+     */
+    CacheSnapshot(Path file, String[] columns) throws IOException {
+        this.file = file.toAbsolutePath();
+        Files.createDirectories(this.file.getParent());
+        this.tempFile = this.file.resolveSibling(this.file.getFileName()+".tmp");
+        this.channel = FileChannel.open(this.tempFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        byte[] header = String.join(",", columns).getBytes(StandardCharsets.UTF_8);
+        this.ensure(16+header.length);
+        region.putInt(MAGIC);
+        region.putLong(System.currentTimeMillis());
+        region.putInt(header.length);
+        region.put(header);
+    }
+
+    /**
+     * Map a region of the file with at least the provided number of bytes remaining
+     * @param bytes number of bytes to write
+     * @throws IOException unable to map the file
+     */
+    private void ensure(int bytes) throws IOException {
+        if(region==null || region.remaining()<bytes) {
+            long position = region==null ? 0 : regionStart+region.position();
+            region = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.max(REGION_SIZE, bytes));
+            regionStart = position;
+        }
+    }
+
+    /**
+     * Append an object to the snapshot
+     * @param ageNanos time since the object was written
+     * @param encoded binary encoding of the object
+     * @throws IOException unable to write to the file
+     */
+    void append(long ageNanos, ByteBuffer encoded) throws IOException {
+        ByteBuffer source = encoded.duplicate();
+        this.ensure(12+source.remaining());
+        region.putLong(ageNanos);
+        region.putInt(source.remaining());
+        region.put(source);
+    }
+
+    /**
+     * Flush the snapshot and replace the previous snapshot
+     * @throws IOException unable to write to the file
+     */
+    void commit() throws IOException {
+        long size = regionStart+region.position();
+        region.force();
+        region = null;
+        channel.truncate(size);
+        channel.close();
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Discard an uncommitted snapshot
+     */
+    void abort() {
+        try {
+            region = null;
+            channel.close();
+            Files.deleteIfExists(tempFile);
+        }
+        catch (IOException e) {
+            log.warn("Unable to remove {}",tempFile,e);
+        }
+    }
+
+    /**
+     * Read a snapshot. A snapshot of different columns is skipped
+     * @param file snapshot file
+     * @param columns column names of the encoded objects
+     * @param consumer callback for each object
+     * @return number of objects read
+     * @throws IOException unable to read the file or it is not a snapshot
+     */
+    static long read(Path file, String[] columns, EntryConsumer consumer) throws IOException {
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, REGION_SIZE));
+            if(size<16 || region.getInt()!=MAGIC) {
+                throw new IOException("Invalid cache snapshot "+file);
+            }
+            long elapsedNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, System.currentTimeMillis()-region.getLong()));
+            byte[] header = new byte[region.getInt()];
+            if(header.length>region.remaining()) {
+                throw new IOException("Invalid cache snapshot "+file);
+            }
+            region.get(header);
+            if(!Arrays.equals(header, String.join(",", columns).getBytes(StandardCharsets.UTF_8))) {
+                log.warn("Skipping cache snapshot {}. Columns have changed",file);
+                return 0;
+            }
+
+            long regionStart = 0;
+            long count = 0;
+            while(regionStart+region.position()<size) {
+                if(region.remaining()<12) {
+                    regionStart += region.position();
+                    region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, Math.min(size-regionStart, REGION_SIZE));
+                    if(region.remaining()<12) {
+                        throw new IOException("Truncated cache snapshot "+file);
+                    }
+                }
+                long ageNanos = region.getLong();
+                int length = region.getInt();
+                if(region.remaining()<length) {
+                    regionStart += region.position();
+                    region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, Math.min(size-regionStart, Math.max(REGION_SIZE, length)));
+                }
+                if(length<0 || region.remaining()<length) {
+                    throw new IOException("Truncated cache snapshot "+file);
+                }
+                ByteBuffer encoded = region.slice();
+                encoded.limit(length);
+                region.position(region.position()+length);
+                consumer.accept(ageNanos+elapsedNanos, encoded);
+                count++;
+            }
+            return count;
+        }
+    }
+}
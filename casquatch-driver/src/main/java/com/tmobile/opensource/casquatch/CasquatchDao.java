@@ -16,11 +16,14 @@
 
 package com.tmobile.opensource.casquatch;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.cql.*;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
 import com.datastax.oss.driver.api.core.session.Session;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tmobile.opensource.casquatch.annotation.Rest;
 import com.tmobile.opensource.casquatch.models.NodeMetaData;
 import com.tmobile.opensource.casquatch.policies.FailoverPolicy;
@@ -29,11 +32,29 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Primary entry point for Project - Casquatch to provide object based API for entities.
@@ -82,7 +103,7 @@ public class CasquatchDao {
 
         public String toString() {
             try {
-                return new ObjectMapper().writeValueAsString(this);
+                return CasquatchObjectMapper.getObjectMapper().writeValueAsString(this);
             } catch (JsonProcessingException e) {
                 log.error("Unable to convert to JSON",e);
                 return "Unable to convert to JSON";
@@ -97,11 +118,18 @@ public class CasquatchDao {
 
     private final CqlSession session;
     @Getter private final String keyspace;
-    private final Map<Class,Object> statementFactoryCache;
+    private final ConcurrentMap<Class<?>,AbstractStatementFactory<?>> statementFactoryCache;
+    private final Map<Class<?>,Function<CqlSession, AbstractStatementFactory<?>>> statementFactoryConstructors;
     private final QueryOptions defaultQueryOptions;
     private final QueryOptions defaultSolrQueryOptions;
+    private final CacheOptions defaultCacheOptions;
+    private final ScanOptions defaultScanOptions;
+    private final Set<DatabaseCache<?>> openCaches = ConcurrentHashMap.newKeySet();
     private final Config config;
+    private final int bulkBatchSize;
+    private final int bulkMaxInFlight;
     private FailoverPolicy failoverPolicy;
+    private CacheInvalidationBus cacheInvalidationBus;
     public static CasquatchCoordinations COORDINATES=new CasquatchCoordinations();
     private NodeMetaData nodeMetaData;
 
@@ -114,7 +142,8 @@ public class CasquatchDao {
         this.config = casquatchDaoBuilder.getConfig();
         this.keyspace=this.config.getString("basic.session-keyspace");
         this.session=casquatchDaoBuilder.session();
-        this.statementFactoryCache = new HashMap<>();
+        this.statementFactoryCache = new ConcurrentHashMap<>();
+        this.statementFactoryConstructors = new ConcurrentHashMap<>();
 
         //Load Query Options
         if(this.config.hasPath("query-options")) {
@@ -132,6 +161,31 @@ public class CasquatchDao {
         }
         if(log.isTraceEnabled()) log.trace("Default SolrQuery Options: {}",defaultSolrQueryOptions);
 
+        //Load Cache Options
+        if(this.config.hasPath("cache-options")) {
+            this.defaultCacheOptions=new CacheOptions(this.config.getConfig("cache-options"));
+        }
+        else {
+            this.defaultCacheOptions=new CacheOptions();
+        }
+        if(log.isTraceEnabled()) log.trace("Default Cache Options: {}",defaultCacheOptions);
+
+        //Load Scan Options
+        if(this.config.hasPath("scan-options")) {
+            this.defaultScanOptions=new ScanOptions(this.config.getConfig("scan-options"));
+        }
+        else {
+            this.defaultScanOptions=new ScanOptions();
+        }
+        if(log.isTraceEnabled()) log.trace("Default Scan Options: {}",defaultScanOptions);
+
+        //Load Bulk Options
+        this.bulkBatchSize = this.config.hasPath("bulk.batch-size") ? this.config.getInt("bulk.batch-size") : 50;
+        this.bulkMaxInFlight = this.config.hasPath("bulk.max-in-flight") ? this.config.getInt("bulk.max-in-flight") : 32;
+        if(this.bulkBatchSize<1 || this.bulkMaxInFlight<1) {
+            throw new DriverException(DriverException.CATEGORIES.CASQUATCH_INVALID_CONFIGURATION, "bulk.batch-size and bulk.max-in-flight must be positive");
+        }
+
         //Load Failover policy
         if(this.config.hasPath("failover-policy.class")) {
             String failoverClassName="";
@@ -147,6 +201,12 @@ public class CasquatchDao {
             }
         }
 
+        //Load Statement Factories
+        this.loadStatementFactories();
+        if(this.config.hasPath("warm-up.enabled") && this.config.getBoolean("warm-up.enabled")) {
+            this.warmUp();
+        }
+
         this.nodeMetaData=this.getStatementFactory(NodeMetaData.class).map(this.execute(SimpleStatement.newInstance("select * From system.local")).one());
 
         //Log the version
@@ -186,25 +246,105 @@ public class CasquatchDao {
     }
 
     /**
-     * Gets a dao mapper for a given object
+     * Eagerly create statement factories for every entity registered by a {@link CasquatchEntityRegistry} generated by the annotation processor
+     */
+    private void loadStatementFactories() {
+        for(CasquatchEntityRegistry casquatchEntityRegistry : ServiceLoader.load(CasquatchEntityRegistry.class, CasquatchDao.class.getClassLoader())) {
+            for(Map.Entry<Class<? extends AbstractCasquatchEntity>, Function<CqlSession, AbstractStatementFactory<?>>> entry : casquatchEntityRegistry.getStatementFactories().entrySet()) {
+                statementFactoryConstructors.putIfAbsent(entry.getKey(), entry.getValue());
+                try {
+                    statementFactoryCache.computeIfAbsent(entry.getKey(), this::createStatementFactory);
+                }
+                catch (Exception e) {
+                    //Factory will be created on first use, e.g. when its UDT is not yet defined in this keyspace
+                    if(log.isDebugEnabled()) log.debug("Unable to eagerly load statement factory for {}: {}",entry.getKey().getName(),e.getMessage());
+                }
+            }
+        }
+        if(log.isDebugEnabled()) log.debug("Loaded {} statement factories",statementFactoryCache.size());
+    }
+
+    /**
+     * Prepare the common statements for the entities and operations listed under warm-up in parallel before the dao is returned
+     */
+    private void warmUp() {
+        long start = System.nanoTime();
+        boolean prepareOnAllNodes = this.session.getContext().getConfig().getDefaultProfile().getBoolean(DefaultDriverOption.PREPARE_ON_ALL_NODES);
+
+        Set<AbstractStatementFactory.Operation> operations = EnumSet.noneOf(AbstractStatementFactory.Operation.class);
+        for(String operation : this.config.getStringList("warm-up.operations")) {
+            try {
+                operations.add(AbstractStatementFactory.Operation.valueOf(operation.trim().toUpperCase()));
+            }
+            catch (IllegalArgumentException e) {
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_INVALID_CONFIGURATION, String.format("Unknown warm-up operation %s", operation));
+            }
+        }
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for(String entity : this.config.getStringList("warm-up.entities")) {
+            Class<?> c;
+            try {
+                c = Class.forName(entity.trim());
+            }
+            catch (ClassNotFoundException e) {
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_INVALID_CONFIGURATION, String.format("Unknown warm-up entity %s", entity));
+            }
+            futures.add(statementFactoryCache.computeIfAbsent(c, this::createStatementFactory).warmUp(operations,defaultQueryOptions));
+        }
+
+        int prepared = 0;
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(this.config.getDuration("warm-up.timeout").toMillis(), TimeUnit.MILLISECONDS);
+            for(CompletableFuture<Integer> future : futures) {
+                prepared += future.join();
+            }
+            log.info("Warm up prepared {} statements for {} entities in {} ms (prepare-on-all-nodes={})", prepared, futures.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime()-start), prepareOnAllNodes);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Warm up interrupted after {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime()-start));
+        }
+        catch (Exception e) {
+            log.warn("Warm up incomplete after {} ms. Remaining statements will be prepared on first use", TimeUnit.NANOSECONDS.toMillis(System.nanoTime()-start), e);
+        }
+    }
+
+    /**
+     * Creates a statement factory for a given entity. Uses the registered constructor, falling back to reflection for entities without a registry
+     * @param c Entity class name
+     * @return statement factory
+     */
+    private AbstractStatementFactory<?> createStatementFactory(Class<?> c) {
+        Function<CqlSession, AbstractStatementFactory<?>> constructor = statementFactoryConstructors.get(c);
+        if(constructor!=null) {
+            return constructor.apply(this.session);
+        }
+        if(log.isDebugEnabled()) log.debug("No registered statement factory for {}. Loading by name",c.getName());
+        try {
+            return (AbstractStatementFactory<?>) Class.forName(CasquatchNamingConvention.classToStatementFactory(c.getName())).getConstructor(CqlSession.class).newInstance(this.session);
+        } catch (ClassNotFoundException e) {
+            throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_GENERATED_CLASS, String.format("Cannot find %s", CasquatchNamingConvention.classToStatementFactory(c.getName())));
+        } catch (Exception e) {
+            log.error("Failed to create Statement Factory",e);
+            throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_GENERATED_CLASS, String.format("Failed to create %s", CasquatchNamingConvention.classToStatementFactory(c.getName())));
+        }
+    }
+
+    /**
+     * Gets a dao mapper for a given object. Factories are created eagerly at construction so the read path is a single map lookup.
      * @param c Entity class name
      * @param <E> Generic entity class
      * @param <S> Generic statement factory
      * @return dao object
      */
-    private <E extends AbstractCasquatchEntity, S extends AbstractStatementFactory<E>> S getStatementFactory(Class<E> c) {
-        if(!statementFactoryCache.containsKey(c)) {
-            try {
-                statementFactoryCache.put(c, Class.forName(CasquatchNamingConvention.classToStatementFactory(c.getName())).getConstructor(CqlSession.class).newInstance(this.session));
-            } catch (ClassNotFoundException e) {
-                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_GENERATED_CLASS, String.format("Cannot find %s", CasquatchNamingConvention.classToStatementFactory(c.getName())));
-            } catch (Exception e) {
-                log.error("Failed to create Statement Factory",e);
-                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_GENERATED_CLASS, String.format("Failed to create %s", CasquatchNamingConvention.classToStatementFactory(c.getName())));
-            }
+    <E extends AbstractCasquatchEntity, S extends AbstractStatementFactory<E>> S getStatementFactory(Class<E> c) {
+        AbstractStatementFactory<?> statementFactory = statementFactoryCache.get(c);
+        if(statementFactory==null) {
+            statementFactory = statementFactoryCache.computeIfAbsent(c, this::createStatementFactory);
         }
         //noinspection unchecked
-        return (S) statementFactoryCache.get(c);
+        return (S) statementFactory;
     }
 
     /**
@@ -316,6 +456,58 @@ public class CasquatchDao {
         return this.executeASync(this.getStatementFactory(c).delete(o,queryOptions.withPrimaryKeysOnly())).thenApply(rs -> null);
     }
 
+    /**
+     * Delete a collection of objects using partition grouped unlogged batches
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param objects partially populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     * @return returns a Void object
+     */
+    public <E extends AbstractCasquatchEntity> Void deleteAll(Class<E> c, Collection<E> objects) throws DriverException {
+        return this.deleteAll(c,objects,defaultQueryOptions);
+    }
+
+    /**
+     * Delete a collection of objects using partition grouped unlogged batches
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param objects partially populated objects
+     * @param queryOptions Query Options to include
+     * @throws DriverException - Driver exception mapped to error code
+     * @return returns a Void object
+     */
+    public <E extends AbstractCasquatchEntity> Void deleteAll(Class<E> c, Collection<E> objects, QueryOptions queryOptions) throws DriverException {
+        return join(this.deleteAllAsync(c,objects,queryOptions));
+    }
+
+    /**
+     * Delete asynchronously a collection of objects using partition grouped unlogged batches
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param objects partially populated objects
+     * @return CompletableFuture to process ASync request
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Void> deleteAllAsync(Class<E> c, Collection<E> objects) throws DriverException {
+        return this.deleteAllAsync(c,objects,defaultQueryOptions);
+    }
+
+    /**
+     * Delete asynchronously a collection of objects using partition grouped unlogged batches
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param objects partially populated objects
+     * @param queryOptions Query Options to include
+     * @return CompletableFuture to process ASync request
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Void> deleteAllAsync(Class<E> c, Collection<E> objects, QueryOptions queryOptions) throws DriverException {
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        QueryOptions deleteOptions = queryOptions.withPrimaryKeysOnly();
+        return this.executeBulkAsync(statementFactory, objects, o -> statementFactory.delete(o,deleteOptions));
+    }
+
     /**
      * Execute a statement and provide resultset. This wraps {@link CqlSession#execute(Statement)} with additional logic
      *
@@ -350,26 +542,171 @@ public class CasquatchDao {
      */
     private CompletableFuture<AsyncResultSet> executeASync(Statement statement) throws DriverException  {
         if(log.isTraceEnabled()) log.trace("Executing Statement Asynchronously with profile {}: {}", statement.getExecutionProfileName(), this.getStatementQuery(statement));
+        CompletableFuture<AsyncResultSet> completableFuture;
         try {
-            return this.session.executeAsync(statement).toCompletableFuture().handle(
-                    (result, e) -> {
-                        if (e instanceof Exception) {
-                            if(failoverPolicy !=null && getProfileConfig("failover-policy.profile",statement.getExecutionProfileName()) != null && failoverPolicy.shouldFailover((Exception) e,statement)) {
-                                log.warn("Statement Failed With Exception. Retrying on failover profile: {}", getProfileConfig("failover-policy.profile",statement.getExecutionProfileName()), new DriverException((Exception) e));
-                                try {
-                                    return this.executeASync(statement.setExecutionProfileName(getProfileConfig("failover-policy.profile",statement.getExecutionProfileName()))).get();
-                                } catch (Exception ex) {
-                                    throw new DriverException(ex);
-                                }
-                            }
-                        }
-                        return result;
-                    }
-            );
+            completableFuture = this.session.executeAsync(statement).toCompletableFuture();
         }
         catch (Exception e) {
             throw new DriverException(e);
         }
+        //Failover is composed rather than waited on so no driver thread is ever blocked
+        return completableFuture.handle(
+                (result, throwable) -> {
+                    if (throwable == null) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    Throwable cause = (throwable instanceof CompletionException && throwable.getCause() != null) ? throwable.getCause() : throwable;
+                    if (!(cause instanceof Exception)) {
+                        return CasquatchDao.<AsyncResultSet>failedFuture(cause);
+                    }
+                    String failoverProfile = getProfileConfig("failover-policy.profile",statement.getExecutionProfileName());
+                    if(failoverPolicy !=null && failoverProfile != null && failoverPolicy.shouldFailover((Exception) cause,statement)) {
+                        log.warn("Statement Failed With Exception. Retrying on failover profile: {}", failoverProfile, new DriverException((Exception) cause));
+                        return this.executeASync(statement.setExecutionProfileName(failoverProfile));
+                    }
+                    return CasquatchDao.<AsyncResultSet>failedFuture(new DriverException((Exception) cause));
+                }
+        ).thenCompose(Function.identity());
+    }
+
+    /**
+     * Create a future which has already completed exceptionally
+     * @param throwable cause of failure
+     * @param <T> type of future
+     * @return completed future
+     */
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> completableFuture = new CompletableFuture<>();
+        completableFuture.completeExceptionally(throwable);
+        return completableFuture;
+    }
+
+    /**
+     * Map every row of an async result set, fetching further pages without blocking
+     * @param asyncResultSet current page of results
+     * @param statementFactory statement factory to map rows
+     * @param results list to add mapped objects to
+     * @param <E> Entity Object for results
+     * @return CompletableFuture with list of populated objects
+     */
+    private static <E extends AbstractCasquatchEntity> CompletableFuture<List<E>> mapAllAsync(AsyncResultSet asyncResultSet, AbstractStatementFactory<E> statementFactory, List<E> results) {
+        for(Row row : asyncResultSet.currentPage()) {
+            results.add(statementFactory.map(row));
+        }
+        if(asyncResultSet.hasMorePages()) {
+            return asyncResultSet.fetchNextPage().toCompletableFuture().thenCompose(next -> mapAllAsync(next,statementFactory,results));
+        }
+        return CompletableFuture.completedFuture(results);
+    }
+
+    /**
+     * Group statements by partition into unlogged batches of at most bulk.batch-size and execute them with at most bulk.max-in-flight outstanding
+     * @param statementFactory statement factory for the entity
+     * @param objects objects to process
+     * @param toStatement function to build the statement for an object
+     * @param <E> Entity Object
+     * @return CompletableFuture which completes once every batch is applied or fails with the first error
+     */
+    private <E extends AbstractCasquatchEntity> CompletableFuture<Void> executeBulkAsync(AbstractStatementFactory<E> statementFactory, Collection<E> objects, Function<E,BoundStatement> toStatement) {
+        Map<Object,List<BatchableStatement<?>>> partitions = new LinkedHashMap<>();
+        for(E o : objects) {
+            partitions.computeIfAbsent(statementFactory.partitionKey(o), k -> new ArrayList<>()).add(toStatement.apply(o));
+        }
+
+        List<Statement<?>> statements = new ArrayList<>();
+        for(List<BatchableStatement<?>> partition : partitions.values()) {
+            for(int i=0;i<partition.size();i+=bulkBatchSize) {
+                List<BatchableStatement<?>> chunk = partition.subList(i,Math.min(i+bulkBatchSize,partition.size()));
+                if(chunk.size()==1) {
+                    statements.add(chunk.get(0));
+                }
+                else {
+                    BatchableStatement<?> first = chunk.get(0);
+                    statements.add(BatchStatement.newInstance(DefaultBatchType.UNLOGGED,chunk)
+                            .setConsistencyLevel(first.getConsistencyLevel())
+                            .setExecutionProfileName(first.getExecutionProfileName()));
+                }
+            }
+        }
+        if(log.isTraceEnabled()) log.trace("Bulk request of {} objects grouped into {} partitions and {} statements", objects.size(), partitions.size(), statements.size());
+        return this.executeBounded(statements,bulkMaxInFlight,this::executeASync);
+    }
+
+    /**
+     * Execute statements with at most maxInFlight outstanding
+     * @param statements statements to execute
+     * @param maxInFlight maximum number of statements outstanding
+     * @param execute function to execute a statement, completing once its results are processed
+     * @return CompletableFuture which completes once every statement is done or fails with the first error
+     */
+    private CompletableFuture<Void> executeBounded(List<? extends Statement<?>> statements, int maxInFlight, Function<Statement<?>,CompletableFuture<?>> execute) {
+        CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+        if(statements.isEmpty()) {
+            completableFuture.complete(null);
+            return completableFuture;
+        }
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(statements.size());
+        for(int i=0;i<Math.min(maxInFlight,statements.size());i++) {
+            this.executeNext(statements,execute,next,remaining,completableFuture);
+        }
+        return completableFuture;
+    }
+
+    /**
+     * Execute the next pending statement, submitting another as each completes so the number in flight stays constant
+     * @param statements statements to execute
+     * @param execute function to execute a statement
+     * @param next index of next statement to submit
+     * @param remaining count of statements not yet completed
+     * @param completableFuture future to complete once all statements are done
+     */
+    private void executeNext(List<? extends Statement<?>> statements, Function<Statement<?>,CompletableFuture<?>> execute, AtomicInteger next, AtomicInteger remaining, CompletableFuture<Void> completableFuture) {
+        if(completableFuture.isDone()) {
+            return;
+        }
+        int index = next.getAndIncrement();
+        if(index>=statements.size()) {
+            return;
+        }
+        CompletableFuture<?> result;
+        try {
+            result = execute.apply(statements.get(index));
+        }
+        catch (Exception e) {
+            completableFuture.completeExceptionally(e);
+            return;
+        }
+        result.whenComplete((rs, throwable) -> {
+            if(throwable!=null) {
+                completableFuture.completeExceptionally((throwable instanceof CompletionException && throwable.getCause() != null) ? throwable.getCause() : throwable);
+            }
+            else if(remaining.decrementAndGet()==0) {
+                completableFuture.complete(null);
+            }
+            else {
+                this.executeNext(statements,execute,next,remaining,completableFuture);
+            }
+        });
+    }
+
+    /**
+     * Wait for a future, rethrowing failures as a DriverException
+     * @param completableFuture future to wait on
+     * @param <T> type of future
+     * @return result of future
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    private static <T> T join(CompletableFuture<T> completableFuture) throws DriverException {
+        try {
+            return completableFuture.join();
+        }
+        catch (CompletionException e) {
+            if(e.getCause() instanceof DriverException) {
+                throw (DriverException) e.getCause();
+            }
+            throw new DriverException(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        }
     }
 
     /**
@@ -399,6 +736,31 @@ public class CasquatchDao {
         return resultSet.one() != null;
     }
 
+    /**
+     * Check asynchronously if an object exists. Non key columns are ignored.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @return CompletableFuture with boolean indicating existence
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Boolean> existsByIdAsync(Class<E> c, E o) throws DriverException {
+        return this.existsByIdAsync(c,o,defaultQueryOptions);
+    }
+
+    /**
+     * Check asynchronously if an object exists. Non key columns are ignored.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @param queryOptions Query Options to include
+     * @return CompletableFuture with boolean indicating existence
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Boolean> existsByIdAsync(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
+        return this.executeASync(this.getStatementFactory(c).get(o,queryOptions.withPrimaryKeysOnly())).thenApply(rs -> rs.one() != null);
+    }
+
     /**
      * Gets a database cache for the given entity class
      * @param c Entity class name
@@ -408,7 +770,19 @@ public class CasquatchDao {
      * @throws DriverException - Driver exception mapped to error code
      */
     public <E extends AbstractCasquatchEntity> DatabaseCache<E> getCache(Class<E> c, Long expirationTime) throws DriverException {
-        return new DatabaseCache<>(c,this,expirationTime);
+        return new DatabaseCache<>(c,this,defaultCacheOptions.withExpiration(Duration.ofMillis(expirationTime)));
+    }
+
+    /**
+     * Gets a database cache for the given entity class
+     * @param c Entity class name
+     * @param cacheOptions Cache Options to include
+     * @param <E> Generic entity class
+     * @return database cache object
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> DatabaseCache<E> getCache(Class<E> c, CacheOptions cacheOptions) throws DriverException {
+        return new DatabaseCache<>(c,this,cacheOptions);
     }
 
     /**
@@ -419,7 +793,7 @@ public class CasquatchDao {
      * @throws DriverException - Driver exception mapped to error code
      */
     public <E extends AbstractCasquatchEntity> DatabaseCache<E> getCache(Class<E> c) throws DriverException {
-        return new DatabaseCache<>(c,this);
+        return new DatabaseCache<>(c,this,defaultCacheOptions);
     }
 
     /**
@@ -445,7 +819,37 @@ public class CasquatchDao {
      */
     @Rest("/get")
     public <E extends AbstractCasquatchEntity> E getById(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
-        return this.execute(this.getStatementFactory(c).get(o,queryOptions.withPrimaryKeysOnly().withLimit(1))).map(this.getStatementFactory(c)::map).one();
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        return this.execute(statementFactory.get(o,queryOptions.withPrimaryKeysOnly().withLimit(1))).map(statementFactory::map).one();
+    }
+
+    /**
+     * Get asynchronously an object by passing an instance of the given object with all keys populated. Non-Key columns are ignored.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @return CompletableFuture with populated object
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<E> getByIdAsync(Class<E> c, E o) throws DriverException {
+        return this.getByIdAsync(c,o,defaultQueryOptions);
+    }
+
+    /**
+     * Get asynchronously an object by passing an instance of the given object with all keys populated. Non-Key columns are ignored.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @param queryOptions Query Options to include
+     * @return CompletableFuture with populated object
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<E> getByIdAsync(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        return this.executeASync(statementFactory.get(o,queryOptions.withPrimaryKeysOnly().withLimit(1))).thenApply(rs -> {
+            Row row = rs.one();
+            return row == null ? null : statementFactory.map(row);
+        });
     }
 
     /**
@@ -484,145 +888,450 @@ public class CasquatchDao {
      */
     @Rest("/get/all")
     public <E extends AbstractCasquatchEntity> List<E> getAllById(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
-        return this.execute(this.getStatementFactory(c).get(o,queryOptions.withPrimaryKeysOnly())).map(this.getStatementFactory(c)::map).all();
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        return this.execute(statementFactory.get(o,queryOptions.withPrimaryKeysOnly())).map(statementFactory::map).all();
     }
 
     /**
-     * Get all objects by passing a partially populated object. Non-Key columns are allowed.
-     *
-     * Note: Defaults to 10 rows
-     *
+     * Get asynchronously all object by passing a partially populated instance of the given object. Non-Key columns are ignored.
      * @param <E> Entity Object for results
      * @param c Class of object
      * @param o partially populated object
-     * @return list of populated objects
+     * @return CompletableFuture with list of populated objects
      * @throws DriverException - Driver exception mapped to error code
      */
-    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, E o) throws DriverException {
-        return this.getAllBySolr(c,o,defaultSolrQueryOptions);
+    public <E extends AbstractCasquatchEntity> CompletableFuture<List<E>> getAllByIdAsync(Class<E> c, E o) throws DriverException {
+        return this.getAllByIdAsync(c,o,defaultQueryOptions);
     }
 
     /**
-     * Get all objects by passing a partially populated object. Non-Key columns are allowed.
+     * Get asynchronously all object by passing a partially populated instance of the given object. Non-Key columns are ignored.
      * @param <E> Entity Object for results
      * @param c Class of object
      * @param o partially populated object
      * @param limit limit number of returned objects
-     * @return list of populated objects
+     * @return CompletableFuture with list of populated objects
      * @throws DriverException - Driver exception mapped to error code
      */
-    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, E o, int limit) throws DriverException {
-        return this.getAllBySolr(c,o,defaultSolrQueryOptions.withLimit(limit));
+    public <E extends AbstractCasquatchEntity> CompletableFuture<List<E>> getAllByIdAsync(Class<E> c, E o, Integer limit) throws DriverException {
+        return this.getAllByIdAsync(c,o,defaultQueryOptions.withLimit(limit));
     }
 
     /**
-     * Get all objects by passing a partially populated object. Non-Key columns are allowed.
-     * See https://docs.datastax.com/en/dse/6.0/cql/cql/cql_using/search_index/siQuerySyntax.html for details and limitations including some fields which will not be populated.
+     * Get asynchronously all object by passing a partially populated instance of the given object. Non-Key columns are ignored.
      * @param <E> Entity Object for results
      * @param c Class of object
      * @param o partially populated object
      * @param queryOptions Query Options to include
-     * @return list of populated objects
+     * @return CompletableFuture with list of populated objects
      * @throws DriverException - Driver exception mapped to error code
      */
-    @Rest("/solr/object/get")
-    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
-        if(checkFeature(FEATURES.SOLR_OBJECT)) {
-            return this.execute(this.getStatementFactory(c).get(o,queryOptions.withAllColumns())).map(this.getStatementFactory(c)::map).all();
-        }
-        else {
-            throw new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED, "Solr is not enabled on this node");
-        }
+    public <E extends AbstractCasquatchEntity> CompletableFuture<List<E>> getAllByIdAsync(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        return this.executeASync(statementFactory.get(o,queryOptions.withPrimaryKeysOnly())).thenCompose(rs -> mapAllAsync(rs,statementFactory,new ArrayList<>()));
     }
 
     /**
-     * Get all objects by passing a solr_query.
+     * Get asynchronously the rows of several objects in one partition using IN on the last clustering column. See {@link AbstractStatementFactory#supportsGetIn()}
      * @param <E> Entity Object for results
      * @param c Class of object
-     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
-     * @return list of populated objects
+     * @param objects objects with all keys populated which differ only in the last clustering column
+     * @return CompletableFuture with list of populated objects which exist
      * @throws DriverException - Driver exception mapped to error code
      */
-    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, String solrQueryString) throws DriverException {
-        return getAllBySolr(c,solrQueryString,defaultSolrQueryOptions);
+    <E extends AbstractCasquatchEntity> CompletableFuture<List<E>> getAllByIdInAsync(Class<E> c, List<E> objects) throws DriverException {
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        return this.executeASync(statementFactory.getIn(objects,defaultQueryOptions)).thenCompose(rs -> mapAllAsync(rs,statementFactory,new ArrayList<>()));
     }
 
     /**
-     * Get all objects by passing a solr_query.
+     * Get a single page of objects by passing a partially populated object. Non-Key columns are ignored.
+     *
+     * Note: Pages default to 10 rows. Pass the paging state of the returned page to get the next page
      * @param <E> Entity Object for results
      * @param c Class of object
-     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
-     * @param limit limit number of returned objects
-     * @return list of populated objects
+     * @param o partially populated object
+     * @param pagingState paging state of a previous page or null for the first page
+     * @return page of populated objects
      * @throws DriverException - Driver exception mapped to error code
      */
-    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, String solrQueryString, int limit) throws DriverException {
-        return this.getAllBySolr(c,solrQueryString,defaultSolrQueryOptions.withLimit(limit));
+    public <E extends AbstractCasquatchEntity> Page<E> getPageById(Class<E> c, E o, String pagingState) throws DriverException {
+        return this.getPageById(c,o,pagingState,defaultQueryOptions);
     }
 
     /**
-     * Get all objects by passing a solr_query.
+     * Get a single page of objects by passing a partially populated object. Non-Key columns are ignored.
+     *
+     * Note: The limit of the query options is used as the page size. Pass the paging state of the returned page to get the next page
      * @param <E> Entity Object for results
      * @param c Class of object
-     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
+     * @param o partially populated object
+     * @param pagingState paging state of a previous page or null for the first page
      * @param queryOptions Query Options to include
-     * @return list of populated objects
+     * @return page of populated objects
      * @throws DriverException - Driver exception mapped to error code
      */
-    @Rest("/solr/query/get")
-    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, String solrQueryString, QueryOptions queryOptions) throws DriverException {
-        if(checkFeature(FEATURES.SOLR)) {
-            return this.execute(this.getStatementFactory(c).getSolr(solrQueryString,queryOptions.withAllColumns())).map(this.getStatementFactory(c)::map).all();
-        }
-        else {
-            throw new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED, "Solr is not enabled on this node");
+    @Rest("/get/page")
+    public <E extends AbstractCasquatchEntity> Page<E> getPageById(Class<E> c, E o, String pagingState, QueryOptions queryOptions) throws DriverException {
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        ResultSet resultSet = this.execute(getPageStatement(statementFactory,o,pagingState,queryOptions));
+        List<E> items = new ArrayList<>(resultSet.getAvailableWithoutFetching());
+        Iterator<Row> rows = resultSet.iterator();
+        for(int remaining=resultSet.getAvailableWithoutFetching();remaining>0;remaining--) {
+            items.add(statementFactory.map(rows.next()));
         }
+        return new Page<>(items,Page.encodePagingState(resultSet.getExecutionInfo().getPagingState()));
     }
 
     /**
-     * Get a count of objects by passing a solr_query.
+     * Get asynchronously a single page of objects by passing a partially populated object. Non-Key columns are ignored.
+     *
+     * Note: Pages default to 10 rows. Pass the paging state of the returned page to get the next page
      * @param <E> Entity Object for results
      * @param c Class of object
      * @param o partially populated object
-     * @return list of populated objects
+     * @param pagingState paging state of a previous page or null for the first page
+     * @return CompletableFuture with page of populated objects
      * @throws DriverException - Driver exception mapped to error code
      */
-    public <E extends AbstractCasquatchEntity> Long getCountBySolr(Class<E> c, E o) throws DriverException {
-        return this.getCountBySolr(c,o,defaultSolrQueryOptions);
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Page<E>> getPageByIdAsync(Class<E> c, E o, String pagingState) throws DriverException {
+        return this.getPageByIdAsync(c,o,pagingState,defaultQueryOptions);
     }
 
     /**
-     * Get a count of objects by passing a solr_query.
+     * Get asynchronously a single page of objects by passing a partially populated object. Non-Key columns are ignored.
+     *
+     * Note: The limit of the query options is used as the page size. Pass the paging state of the returned page to get the next page
      * @param <E> Entity Object for results
      * @param c Class of object
      * @param o partially populated object
+     * @param pagingState paging state of a previous page or null for the first page
      * @param queryOptions Query Options to include
-     * @return list of populated objects
+     * @return CompletableFuture with page of populated objects
      * @throws DriverException - Driver exception mapped to error code
      */
-    @Rest("/solr/object/count")
-    public <E extends AbstractCasquatchEntity> Long getCountBySolr(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
-        if(checkFeature(FEATURES.SOLR_OBJECT))  {
-            Row row = this.execute(this.getStatementFactory(c).count(o,queryOptions.withAllColumns())).one();
-            return Objects.requireNonNull(row).getLong("count");
-        }
-        throw new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED,"Solr is not enabled on this node");
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Page<E>> getPageByIdAsync(Class<E> c, E o, String pagingState, QueryOptions queryOptions) throws DriverException {
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        return this.executeASync(getPageStatement(statementFactory,o,pagingState,queryOptions)).thenApply(asyncResultSet -> {
+            List<E> items = new ArrayList<>(asyncResultSet.remaining());
+            for(Row row : asyncResultSet.currentPage()) {
+                items.add(statementFactory.map(row));
+            }
+            return new Page<>(items,Page.encodePagingState(asyncResultSet.getExecutionInfo().getPagingState()));
+        });
     }
 
     /**
-     * Get a count of objects by passing a solr_query.
+     * Create the statement for a single page. The limit is applied as the page size rather than to the query so later pages can be requested
      * @param <E> Entity Object for results
-     * @param c Class of object
-     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
-     * @return list of populated objects
+     * @param statementFactory statement factory of the table
+     * @param o partially populated object
+     * @param pagingState paging state of a previous page or null for the first page
+     * @param queryOptions Query Options to include
+     * @return statement for the page
      * @throws DriverException - Driver exception mapped to error code
      */
-    public <E extends AbstractCasquatchEntity> Long getCountBySolr(Class<E> c, String solrQueryString) throws DriverException {
-        return this.getCountBySolr(c,solrQueryString,defaultSolrQueryOptions);
+    private <E extends AbstractCasquatchEntity> BoundStatement getPageStatement(AbstractStatementFactory<E> statementFactory, E o, String pagingState, QueryOptions queryOptions) throws DriverException {
+        BoundStatement statement = statementFactory.get(o,queryOptions.withPrimaryKeysOnly().withoutLimit()).setPagingState(Page.decodePagingState(pagingState));
+        if(queryOptions.getLimit()!=null) {
+            statement = statement.setPageSize(queryOptions.getLimit());
+        }
+        return statement;
     }
 
     /**
-     * Get a count of objects by passing a solr_query.
+     * Stream all objects by passing a partially populated instance of the given object. Non-Key columns are ignored.
+     *
+     * Note: Unlike getAllById no limit is applied. Pages of basic.request.page-size rows are fetched as the stream is consumed
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @return lazily paged stream of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> Stream<E> streamAllById(Class<E> c, E o) throws DriverException {
+        return this.streamAllById(c,o,defaultQueryOptions.withoutLimit());
+    }
+
+    /**
+     * Stream all objects by passing a partially populated instance of the given object. Non-Key columns are ignored.
+     *
+     * Note: Pages of basic.request.page-size rows are fetched as the stream is consumed
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @param queryOptions Query Options to include
+     * @return lazily paged stream of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> Stream<E> streamAllById(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        return StreamSupport.stream(this.execute(statementFactory.get(o,queryOptions.withPrimaryKeysOnly())).spliterator(),false).map(statementFactory::map);
+    }
+
+    /**
+     * Process all objects by passing a partially populated instance of the given object. Non-Key columns are ignored.
+     *
+     * Note: Unlike getAllById no limit is applied. Pages of basic.request.page-size rows are fetched as rows are consumed
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @param consumer consumer called with each populated object
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> void forEachById(Class<E> c, E o, Consumer<? super E> consumer) throws DriverException {
+        this.forEachById(c,o,defaultQueryOptions.withoutLimit(),consumer);
+    }
+
+    /**
+     * Process all objects by passing a partially populated instance of the given object. Non-Key columns are ignored.
+     *
+     * Note: Pages of basic.request.page-size rows are fetched as rows are consumed
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @param queryOptions Query Options to include
+     * @param consumer consumer called with each populated object
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> void forEachById(Class<E> c, E o, QueryOptions queryOptions, Consumer<? super E> consumer) throws DriverException {
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        for(Row row : this.execute(statementFactory.get(o,queryOptions.withPrimaryKeysOnly()))) {
+            consumer.accept(statementFactory.map(row));
+        }
+    }
+
+    /**
+     * Get all objects by passing a partially populated object. Non-Key columns are allowed.
+     *
+     * Note: Defaults to 10 rows
+     *
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @return list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, E o) throws DriverException {
+        return this.getAllBySolr(c,o,defaultSolrQueryOptions);
+    }
+
+    /**
+     * Get all objects by passing a partially populated object. Non-Key columns are allowed.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @param limit limit number of returned objects
+     * @return list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, E o, int limit) throws DriverException {
+        return this.getAllBySolr(c,o,defaultSolrQueryOptions.withLimit(limit));
+    }
+
+    /**
+     * Get all objects by passing a partially populated object. Non-Key columns are allowed.
+     * See https://docs.datastax.com/en/dse/6.0/cql/cql/cql_using/search_index/siQuerySyntax.html for details and limitations including some fields which will not be populated.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @param queryOptions Query Options to include
+     * @return list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    @Rest("/solr/object/get")
+    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
+        if(checkFeature(FEATURES.SOLR_OBJECT)) {
+            AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+            return this.execute(statementFactory.get(o,queryOptions.withAllColumns())).map(statementFactory::map).all();
+        }
+        else {
+            throw new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED, "Solr is not enabled on this node");
+        }
+    }
+
+    /**
+     * Get all objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
+     * @return list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, String solrQueryString) throws DriverException {
+        return getAllBySolr(c,solrQueryString,defaultSolrQueryOptions);
+    }
+
+    /**
+     * Get all objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
+     * @param limit limit number of returned objects
+     * @return list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, String solrQueryString, int limit) throws DriverException {
+        return this.getAllBySolr(c,solrQueryString,defaultSolrQueryOptions.withLimit(limit));
+    }
+
+    /**
+     * Get all objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
+     * @param queryOptions Query Options to include
+     * @return list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    @Rest("/solr/query/get")
+    public <E extends AbstractCasquatchEntity> List<E> getAllBySolr(Class<E> c, String solrQueryString, QueryOptions queryOptions) throws DriverException {
+        if(checkFeature(FEATURES.SOLR)) {
+            AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+            return this.execute(statementFactory.getSolr(solrQueryString,queryOptions.withAllColumns())).map(statementFactory::map).all();
+        }
+        else {
+            throw new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED, "Solr is not enabled on this node");
+        }
+    }
+
+    /**
+     * Stream all objects matching a solr query.
+     *
+     * Note: Unlike getAllBySolr no limit is applied. Pages of basic.request.page-size rows are fetched as the stream is consumed
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
+     * @return lazily paged stream of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> Stream<E> streamAllBySolr(Class<E> c, String solrQueryString) throws DriverException {
+        return this.streamAllBySolr(c,solrQueryString,defaultSolrQueryOptions.withoutLimit());
+    }
+
+    /**
+     * Stream all objects matching a solr query.
+     *
+     * Note: Pages of basic.request.page-size rows are fetched as the stream is consumed
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
+     * @param queryOptions Query Options to include
+     * @return lazily paged stream of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> Stream<E> streamAllBySolr(Class<E> c, String solrQueryString, QueryOptions queryOptions) throws DriverException {
+        if(checkFeature(FEATURES.SOLR)) {
+            AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+            return StreamSupport.stream(this.execute(statementFactory.getSolr(solrQueryString,queryOptions.withAllColumns())).spliterator(),false).map(statementFactory::map);
+        }
+        else {
+            throw new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED, "Solr is not enabled on this node");
+        }
+    }
+
+    /**
+     * Get asynchronously all objects by passing a partially populated object. Non-Key columns are allowed.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @return CompletableFuture with list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<List<E>> getAllBySolrAsync(Class<E> c, E o) throws DriverException {
+        return this.getAllBySolrAsync(c,o,defaultSolrQueryOptions);
+    }
+
+    /**
+     * Get asynchronously all objects by passing a partially populated object. Non-Key columns are allowed.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @param queryOptions Query Options to include
+     * @return CompletableFuture with list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<List<E>> getAllBySolrAsync(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
+        if(checkFeature(FEATURES.SOLR_OBJECT)) {
+            AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+            return this.executeASync(statementFactory.get(o,queryOptions.withAllColumns())).thenCompose(rs -> mapAllAsync(rs,statementFactory,new ArrayList<>()));
+        }
+        return failedFuture(new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED, "Solr is not enabled on this node"));
+    }
+
+    /**
+     * Get asynchronously all objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
+     * @return CompletableFuture with list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<List<E>> getAllBySolrAsync(Class<E> c, String solrQueryString) throws DriverException {
+        return this.getAllBySolrAsync(c,solrQueryString,defaultSolrQueryOptions);
+    }
+
+    /**
+     * Get asynchronously all objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
+     * @param queryOptions Query Options to include
+     * @return CompletableFuture with list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<List<E>> getAllBySolrAsync(Class<E> c, String solrQueryString, QueryOptions queryOptions) throws DriverException {
+        if(checkFeature(FEATURES.SOLR)) {
+            AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+            return this.executeASync(statementFactory.getSolr(solrQueryString,queryOptions.withAllColumns())).thenCompose(rs -> mapAllAsync(rs,statementFactory,new ArrayList<>()));
+        }
+        return failedFuture(new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED, "Solr is not enabled on this node"));
+    }
+
+    /**
+     * Get a count of objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @return list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> Long getCountBySolr(Class<E> c, E o) throws DriverException {
+        return this.getCountBySolr(c,o,defaultSolrQueryOptions);
+    }
+
+    /**
+     * Get a count of objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @param queryOptions Query Options to include
+     * @return list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    @Rest("/solr/object/count")
+    public <E extends AbstractCasquatchEntity> Long getCountBySolr(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
+        if(checkFeature(FEATURES.SOLR_OBJECT))  {
+            Row row = this.execute(this.getStatementFactory(c).count(o,queryOptions.withAllColumns())).one();
+            return Objects.requireNonNull(row).getLong("count");
+        }
+        throw new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED,"Solr is not enabled on this node");
+    }
+
+    /**
+     * Get a count of objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
+     * @return list of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> Long getCountBySolr(Class<E> c, String solrQueryString) throws DriverException {
+        return this.getCountBySolr(c,solrQueryString,defaultSolrQueryOptions);
+    }
+
+    /**
+     * Get a count of objects by passing a solr_query.
      * @param <E> Entity Object for results
      * @param c Class of object
      * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
@@ -639,6 +1348,62 @@ public class CasquatchDao {
         throw new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED,"Solr is not enabled on this node");
     }
 
+    /**
+     * Get asynchronously a count of objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @return CompletableFuture with count of objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Long> getCountBySolrAsync(Class<E> c, E o) throws DriverException {
+        return this.getCountBySolrAsync(c,o,defaultSolrQueryOptions);
+    }
+
+    /**
+     * Get asynchronously a count of objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param o partially populated object
+     * @param queryOptions Query Options to include
+     * @return CompletableFuture with count of objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Long> getCountBySolrAsync(Class<E> c, E o, QueryOptions queryOptions) throws DriverException {
+        if(checkFeature(FEATURES.SOLR_OBJECT))  {
+            return this.executeASync(this.getStatementFactory(c).count(o,queryOptions.withAllColumns())).thenApply(rs -> Objects.requireNonNull(rs.one()).getLong("count"));
+        }
+        return failedFuture(new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED,"Solr is not enabled on this node"));
+    }
+
+    /**
+     * Get asynchronously a count of objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
+     * @return CompletableFuture with count of objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Long> getCountBySolrAsync(Class<E> c, String solrQueryString) throws DriverException {
+        return this.getCountBySolrAsync(c,solrQueryString,defaultSolrQueryOptions);
+    }
+
+    /**
+     * Get asynchronously a count of objects by passing a solr_query.
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param solrQueryString string representing the solr query (See https://docs.datastax.com/en/dse/5.1/dse-dev/datastax_enterprise/search/siQuerySyntax.html#siQuerySyntax)
+     * @param queryOptions Query Options to include
+     * @return CompletableFuture with count of objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Long> getCountBySolrAsync(Class<E> c, String solrQueryString, QueryOptions queryOptions) throws DriverException {
+        if(checkFeature(FEATURES.SOLR)) {
+            return this.executeASync(this.getStatementFactory(c).countSolr(solrQueryString,queryOptions.withAllColumns())).thenApply(rs -> Objects.requireNonNull(rs.one()).getLong("count"));
+        }
+        return failedFuture(new DriverException(DriverException.CATEGORIES.DATABASE_FEATURE_NOT_SUPPORTED,"Solr is not enabled on this node"));
+    }
+
     /**
      * Provides a raw session with no additional wrapping. {@link CasquatchDao#execute(Statement)} is preferred whenever possible.
      * @return raw CqlSession
@@ -648,6 +1413,17 @@ public class CasquatchDao {
         return this.session;
     }
 
+    /**
+     * Get the prepared statement cache counters for an entity. Useful to detect an explosion of statement variants.
+     * @param c Entity class name
+     * @param <E> Generic entity class
+     * @return statement cache statistics
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> AbstractStatementFactory.StatementCacheStats getStatementCacheStats(Class<E> c) throws DriverException {
+        return this.getStatementFactory(c).getStatementCacheStats();
+    }
+
     /**
      * Save an object by passing a populated instance of the given object.
      * @param <E> Entity Object for results
@@ -698,14 +1474,283 @@ public class CasquatchDao {
      * @throws DriverException - Driver exception mapped to error code
      */
     public <E extends AbstractCasquatchEntity> CompletableFuture<Void> saveAsync(Class<E> c, E o,QueryOptions queryOptions) throws DriverException{
-        return this.executeASync(this.getStatementFactory(c).save(o,queryOptions.withPrimaryKeysOnly())).thenApply(rs -> null);
+        return this.executeASync(this.getStatementFactory(c).save(o,queryOptions.withAllColumns())).thenApply(rs -> null);
+    }
+
+    /**
+     * Save a collection of objects using partition grouped unlogged batches
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param objects populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     * @return returns a Void object
+     */
+    public <E extends AbstractCasquatchEntity> Void saveAll(Class<E> c, Collection<E> objects) throws DriverException {
+        return this.saveAll(c,objects,defaultQueryOptions);
+    }
+
+    /**
+     * Save a collection of objects using partition grouped unlogged batches
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param objects populated objects
+     * @param queryOptions Query Options to include
+     * @throws DriverException - Driver exception mapped to error code
+     * @return returns a Void object
+     */
+    public <E extends AbstractCasquatchEntity> Void saveAll(Class<E> c, Collection<E> objects, QueryOptions queryOptions) throws DriverException {
+        return join(this.saveAllAsync(c,objects,queryOptions));
+    }
+
+    /**
+     * Save asynchronously a collection of objects using partition grouped unlogged batches
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param objects populated objects
+     * @return CompletableFuture to process ASync request
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Void> saveAllAsync(Class<E> c, Collection<E> objects) throws DriverException {
+        return this.saveAllAsync(c,objects,defaultQueryOptions);
+    }
+
+    /**
+     * Save asynchronously a collection of objects using partition grouped unlogged batches
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param objects populated objects
+     * @param queryOptions Query Options to include
+     * @return CompletableFuture to process ASync request
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Void> saveAllAsync(Class<E> c, Collection<E> objects, QueryOptions queryOptions) throws DriverException {
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        QueryOptions saveOptions = queryOptions.withAllColumns();
+        return this.executeBulkAsync(statementFactory, objects, o -> statementFactory.save(o,saveOptions));
+    }
+
+    /**
+     * Scan every object of a table in parallel. The token ring is split into ranges which are each read by a single statement.
+     *
+     * Note: At most scan-options.concurrency ranges are read at once on driver threads and the parallel stream is consumed by up to as many threads. The next page of a range is fetched once its previous page is consumed.
+     * The stream must be closed, e.g. with try-with-resources, when it is not fully consumed so the outstanding ranges are cancelled
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @return lazily paged parallel stream of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> Stream<E> scan(Class<E> c) throws DriverException {
+        return this.scan(c,defaultScanOptions);
+    }
+
+    /**
+     * Scan every object of a table in parallel. The token ring is split into ranges which are each read by a single statement.
+     *
+     * Note: At most concurrency ranges are read at once on driver threads and the parallel stream is consumed by up to as many threads. The next page of a range is fetched once its previous page is consumed.
+     * The stream must be closed, e.g. with try-with-resources, when it is not fully consumed so the outstanding ranges are cancelled
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param scanOptions Scan Options to include
+     * @return lazily paged parallel stream of populated objects
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> Stream<E> scan(Class<E> c, ScanOptions scanOptions) throws DriverException {
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        List<BoundStatement> statements = this.getScanStatements(statementFactory,scanOptions);
+        ScanSpliterator<E> spliterator = new ScanSpliterator<>(statementFactory,scanOptions.getConcurrency());
+        CompletableFuture<Void> completableFuture = this.executeBounded(statements,scanOptions.getConcurrency(),statement -> this.executeASync(statement).thenCompose(spliterator::addRange));
+        completableFuture.whenComplete((result,throwable) -> spliterator.complete(throwable));
+        return StreamSupport.stream(spliterator,true).onClose(() -> {
+            spliterator.close();
+            completableFuture.cancel(false);
+        });
+    }
+
+    /**
+     * Process every object of a table in parallel. The token ring is split into ranges which are each read by a single statement.
+     *
+     * Note: The consumer is called concurrently from driver threads and must be thread safe
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param consumer consumer called with each populated object
+     * @return Void
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> Void scan(Class<E> c, Consumer<? super E> consumer) throws DriverException {
+        return this.scan(c,defaultScanOptions,consumer);
+    }
+
+    /**
+     * Process every object of a table in parallel. The token ring is split into ranges which are each read by a single statement.
+     *
+     * Note: The consumer is called concurrently from driver threads and must be thread safe
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param scanOptions Scan Options to include
+     * @param consumer consumer called with each populated object
+     * @return Void
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> Void scan(Class<E> c, ScanOptions scanOptions, Consumer<? super E> consumer) throws DriverException {
+        return join(this.scanAsync(c,scanOptions,consumer));
+    }
+
+    /**
+     * Process every object of a table in parallel. The token ring is split into ranges which are each read by a single statement.
+     *
+     * Note: The consumer is called concurrently from driver threads and must be thread safe
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param consumer consumer called with each populated object
+     * @return CompletableFuture to process ASync request
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Void> scanAsync(Class<E> c, Consumer<? super E> consumer) throws DriverException {
+        return this.scanAsync(c,defaultScanOptions,consumer);
+    }
+
+    /**
+     * Process every object of a table in parallel. The token ring is split into ranges which are each read by a single statement.
+     *
+     * Note: The consumer is called concurrently from driver threads and must be thread safe
+     * @param <E> Entity Object for results
+     * @param c Class of object
+     * @param scanOptions Scan Options to include
+     * @param consumer consumer called with each populated object
+     * @return CompletableFuture to process ASync request
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    public <E extends AbstractCasquatchEntity> CompletableFuture<Void> scanAsync(Class<E> c, ScanOptions scanOptions, Consumer<? super E> consumer) throws DriverException {
+        AbstractStatementFactory<E> statementFactory = this.getStatementFactory(c);
+        List<BoundStatement> statements = this.getScanStatements(statementFactory,scanOptions);
+        return this.executeBounded(statements,scanOptions.getConcurrency(),statement -> this.executeASync(statement).thenCompose(asyncResultSet -> forEachAsync(asyncResultSet,statementFactory,consumer)));
+    }
+
+    /**
+     * Split the token ring into ranges of roughly split-size partitions, with at least one range per concurrent request
+     * @param <E> Entity Object for results
+     * @param statementFactory statement factory of the table
+     * @param scanOptions Scan Options to include
+     * @return statements covering the whole ring
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    private <E extends AbstractCasquatchEntity> List<BoundStatement> getScanStatements(AbstractStatementFactory<E> statementFactory, ScanOptions scanOptions) throws DriverException {
+        if(scanOptions.getConcurrency()==null || scanOptions.getConcurrency()<1 || scanOptions.getSplitSize()==null || scanOptions.getSplitSize()<1) {
+            throw new DriverException(DriverException.CATEGORIES.CASQUATCH_INVALID_CONFIGURATION, "scan-options.concurrency and scan-options.split-size must be positive");
+        }
+        TokenMap tokenMap = this.session.getMetadata().getTokenMap().orElseThrow(() -> new DriverException(DriverException.CATEGORIES.CASQUATCH_INVALID_CONFIGURATION, "Token metadata is not available. Please enable advanced.metadata.token-map.enabled"));
+        Set<TokenRange> ringRanges = tokenMap.getTokenRanges();
+        long partitions = this.estimatePartitions(statementFactory,ringRanges.size());
+        long splits = Math.max(scanOptions.getConcurrency(),partitions/scanOptions.getSplitSize()+(partitions%scanOptions.getSplitSize()==0 ? 0 : 1));
+        int splitsPerRange = (int) Math.max(1,(splits+ringRanges.size()-1)/ringRanges.size());
+        QueryOptions queryOptions = scanOptions.toQueryOptions();
+        List<BoundStatement> statements = new ArrayList<>();
+        for(TokenRange ringRange : ringRanges) {
+            for(TokenRange tokenRange : splitsPerRange>1 ? ringRange.splitEvenly(splitsPerRange) : Collections.singletonList(ringRange)) {
+                statements.addAll(statementFactory.scan(tokenRange,queryOptions));
+            }
+        }
+        if(log.isTraceEnabled()) log.trace("Scan of {} with an estimated {} partitions split into {} statements",statementFactory.getTableName(),partitions,statements.size());
+        return statements;
     }
 
     /**
-     * Close cluster connections
+     * Estimate the partitions of a table from system.size_estimates. The estimates only cover the primary ranges of the coordinator so are scaled up to the full ring
+     * @param statementFactory statement factory of the table
+     * @param ringRanges number of token ranges in the ring
+     * @return estimated number of partitions or 0 if unknown
+     */
+    private long estimatePartitions(AbstractStatementFactory<?> statementFactory, int ringRanges) {
+        long partitions=0;
+        int localRanges=0;
+        try {
+            for(Row row : this.session.execute(SimpleStatement.newInstance("SELECT partitions_count FROM system.size_estimates WHERE keyspace_name=? AND table_name=?",this.session.getKeyspace().map(CqlIdentifier::asInternal).orElse(this.keyspace),statementFactory.getTableName().asInternal()))) {
+                partitions+=row.getLong("partitions_count");
+                localRanges++;
+            }
+        }
+        catch (RuntimeException e) {
+            log.debug("Unable to read size estimates of {}",statementFactory.getTableName(),e);
+            return 0;
+        }
+        return localRanges==0 ? 0 : partitions*ringRanges/localRanges;
+    }
+
+    /**
+     * Pass every row of an async result set to a consumer, fetching further pages without blocking
+     * @param asyncResultSet current page of results
+     * @param statementFactory statement factory to map rows
+     * @param consumer consumer called with each populated object
+     * @param <E> Entity Object for results
+     * @return CompletableFuture which completes once every page is consumed
+     */
+    private static <E extends AbstractCasquatchEntity> CompletableFuture<Void> forEachAsync(AsyncResultSet asyncResultSet, AbstractStatementFactory<E> statementFactory, Consumer<? super E> consumer) {
+        for(Row row : asyncResultSet.currentPage()) {
+            consumer.accept(statementFactory.map(row));
+        }
+        if(asyncResultSet.hasMorePages()) {
+            return asyncResultSet.fetchNextPage().toCompletableFuture().thenCompose(next -> forEachAsync(next,statementFactory,consumer));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Get the cache invalidation bus, starting it on first use. The class is loaded from cache-invalidation.class
+     * @return started cache invalidation bus
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    synchronized CacheInvalidationBus getCacheInvalidationBus() throws DriverException {
+        if(this.cacheInvalidationBus==null) {
+            if(!this.config.hasPath("cache-invalidation.class")) {
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_INVALID_CONFIGURATION, "cache-invalidation.class is not configured");
+            }
+            String busClassName = this.config.getString("cache-invalidation.class");
+            if(!busClassName.contains(".")) {
+                busClassName = String.format("com.tmobile.opensource.casquatch.%s",busClassName);
+            }
+            CacheInvalidationBus bus;
+            try {
+                log.trace("Loading CacheInvalidationBus: {}",busClassName);
+                bus = (CacheInvalidationBus) Class.forName(busClassName).newInstance();
+            } catch (Exception e) {
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_INVALID_CONFIGURATION,String.format("Unable to instantiate CacheInvalidationBus class %s",busClassName));
+            }
+            bus.start(this.session, this.config.getConfig("cache-invalidation"));
+            this.cacheInvalidationBus = bus;
+        }
+        return this.cacheInvalidationBus;
+    }
+
+    /**
+     * Register a cache to be closed before the session, flushing pending writes and writing its snapshot
+     * @param databaseCache cache with write behind, invalidation or a snapshot directory
+     */
+    void registerCache(DatabaseCache<?> databaseCache) {
+        openCaches.add(databaseCache);
+    }
+
+    /**
+     * Remove a cache registered with {@link CasquatchDao#registerCache(DatabaseCache)}
+     * @param databaseCache cache with write behind, invalidation or a snapshot directory
+     */
+    void unregisterCache(DatabaseCache<?> databaseCache) {
+        openCaches.remove(databaseCache);
+    }
+
+    /**
+     * Close cluster connections. Caches with write behind, invalidation or a snapshot directory are closed first, flushing pending writes and writing their snapshots,
+     * followed by the cache invalidation bus
      */
     @PreDestroy
     public void close() {
+        for(DatabaseCache<?> databaseCache : openCaches) {
+            databaseCache.close();
+        }
+        synchronized (this) {
+            if(this.cacheInvalidationBus != null) {
+                this.cacheInvalidationBus.close();
+            }
+        }
         this.session.close();
         log.info("Closed cluster connection");
     }
@@ -19,7 +19,6 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.CqlSessionBuilder;
 import com.datastax.oss.driver.internal.core.config.typesafe.DefaultDriverConfigLoader;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueFactory;
@@ -115,11 +114,11 @@ public class CasquatchDaoBuilder {
     }
 
     /**
-     * Provides access to the underlying session builder based on Casquatch config
+     * Provides access to the underlying session builder based on Casquatch config with the generated type codecs added
      * @return CqlSessionBuilder object
      */
     public CqlSessionBuilder sessionBuilder() {
-        return CqlSession.builder().withConfigLoader(new DefaultDriverConfigLoader(this::getConfig));
+        return CqlSession.builder().withConfigLoader(new DefaultDriverConfigLoader(this::getConfig)).addTypeCodecs(AbstractTypeCodec.loadTypeCodecs());
     }
 
     /**
@@ -150,7 +149,7 @@ public class CasquatchDaoBuilder {
             configString.put(entry.getKey(),entry.getValue().render());
         }
         try {
-            return new ObjectMapper().writeValueAsString(configString);
+            return CasquatchObjectMapper.getObjectMapper().writeValueAsString(configString);
         } catch (JsonProcessingException e) {
             return "Unable to convert to JSON";
         }
@@ -1613,5 +1612,386 @@ public class CasquatchDaoBuilder {
         return this.with("advanced.connection.max-orphan-requests",value);
     }
 
+    /**
+     * Add value to property list mapped to warm-up.enabled
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withWarmUpEnabled(Boolean value) {
+        return this.with("warm-up.enabled",value);
+    }
+
+    /**
+     * Add value to property list mapped to warm-up.entities
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withWarmUpEntities(String value) {
+        if(value.contains(",")) {
+            return this.with("warm-up.entities", Collections.singletonList(value.split(",")));
+        }
+        else {
+            return this.with("warm-up.entities", Collections.singletonList(value));
+        }
+    }
+    /**
+     * Add value to property list mapped to warm-up.entities
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value list of values for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withWarmUpEntities(List<String> value) {
+        return this.with("warm-up.entities",value);
+    }
+
+    /**
+     * Add value to property list mapped to warm-up.operations
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withWarmUpOperations(String value) {
+        if(value.contains(",")) {
+            return this.with("warm-up.operations", Collections.singletonList(value.split(",")));
+        }
+        else {
+            return this.with("warm-up.operations", Collections.singletonList(value));
+        }
+    }
+    /**
+     * Add value to property list mapped to warm-up.operations
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value list of values for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withWarmUpOperations(List<String> value) {
+        return this.with("warm-up.operations",value);
+    }
+
+    /**
+     * Add value to property list mapped to warm-up.timeout
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withWarmUpTimeout(String value) {
+        return this.with("warm-up.timeout",value);
+    }
+
+    /**
+     * Add value to property list mapped to bulk.batch-size
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withBulkBatchSize(Integer value) {
+        return this.with("bulk.batch-size",value);
+    }
+
+    /**
+     * Add value to property list mapped to bulk.max-in-flight
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withBulkMaxInFlight(Integer value) {
+        return this.with("bulk.max-in-flight",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.expiration
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsExpiration(String value) {
+        return this.with("cache-options.expiration",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.maximum-size
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsMaximumSize(Integer value) {
+        return this.with("cache-options.maximum-size",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.refresh-ahead
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsRefreshAhead(String value) {
+        return this.with("cache-options.refresh-ahead",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.stale-while-revalidate
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsStaleWhileRevalidate(String value) {
+        return this.with("cache-options.stale-while-revalidate",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.negative-expiration
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsNegativeExpiration(String value) {
+        return this.with("cache-options.negative-expiration",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.off-heap-maximum-size
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsOffHeapMaximumSize(String value) {
+        return this.with("cache-options.off-heap-maximum-size",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.snapshot-directory
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsSnapshotDirectory(String value) {
+        return this.with("cache-options.snapshot-directory",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.write-behind
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsWriteBehind(String value) {
+        return this.with("cache-options.write-behind",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.write-behind-flush-size
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsWriteBehindFlushSize(Integer value) {
+        return this.with("cache-options.write-behind-flush-size",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.write-behind-maximum-pending
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsWriteBehindMaximumPending(Integer value) {
+        return this.with("cache-options.write-behind-maximum-pending",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.write-behind-timeout
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsWriteBehindTimeout(String value) {
+        return this.with("cache-options.write-behind-timeout",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-options.invalidation
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheOptionsInvalidation(Boolean value) {
+        return this.with("cache-options.invalidation",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-invalidation.class
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheInvalidationClass(String value) {
+        return this.with("cache-invalidation.class",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-invalidation.table
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheInvalidationTable(String value) {
+        return this.with("cache-invalidation.table",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-invalidation.interval
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheInvalidationInterval(String value) {
+        return this.with("cache-invalidation.interval",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-invalidation.bucket
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheInvalidationBucket(String value) {
+        return this.with("cache-invalidation.bucket",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-invalidation.lookback
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheInvalidationLookback(String value) {
+        return this.with("cache-invalidation.lookback",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-invalidation.ttl
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheInvalidationTtl(String value) {
+        return this.with("cache-invalidation.ttl",value);
+    }
+
+    /**
+     * Add value to property list mapped to cache-invalidation.create-table
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withCacheInvalidationCreateTable(Boolean value) {
+        return this.with("cache-invalidation.create-table",value);
+    }
+
+
+    /**
+     * Add value to property list mapped to scan-options.concurrency
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withScanOptionsConcurrency(Integer value) {
+        return this.with("scan-options.concurrency",value);
+    }
+
+    /**
+     * Add value to property list mapped to scan-options.consistency
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withScanOptionsConsistency(String value) {
+        return this.with("scan-options.consistency",value);
+    }
+
+    /**
+     * Add value to property list mapped to scan-options.profile
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withScanOptionsProfile(String value) {
+        return this.with("scan-options.profile",value);
+    }
+
+    /**
+     * Add value to property list mapped to scan-options.split-size
+     *
+     * NOTE: Generated from reference.conf files on release
+     *
+     * @param value value for property
+     * @return builder with property set
+     */
+    public CasquatchDaoBuilder withScanOptionsSplitSize(Integer value) {
+        return this.with("scan-options.split-size",value);
+    }
+
 
 }
\ No newline at end of file
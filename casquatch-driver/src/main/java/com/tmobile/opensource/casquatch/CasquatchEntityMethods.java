@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+/**
+ * Reflection free equals, hashCode, toString and keys of an entity. Implementations are generated by the annotation processor and used by {@link AbstractCasquatchEntity}
+ * @param <E> entity class
+ */
+public interface CasquatchEntityMethods<E extends AbstractCasquatchEntity> {
+
+    /**
+     * Compare the columns of two objects
+     * @param obj first object
+     * @param other second object of the same class
+     * @return boolean indicating equality
+     */
+    boolean equals(E obj, E other);
+
+    /**
+     * Hash the columns of an object consistently with {@link CasquatchEntityMethods#equals(AbstractCasquatchEntity, AbstractCasquatchEntity)}
+     * @param obj populated object
+     * @return hash code
+     */
+    int hashCode(E obj);
+
+    /**
+     * Convert an object to json with the shared mapper, in the same format as {@link AbstractCasquatchType}
+     * @param obj populated object
+     * @return json representation
+     */
+    String toString(E obj);
+
+    /**
+     * Copy the key columns of an object
+     * @param obj populated object
+     * @return instance containing only primary key
+     */
+    E keys(E obj);
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Registry of entities, their statement factory constructors and the type codecs of their UDTs. Implementations are generated by the annotation processor and loaded via {@link java.util.ServiceLoader}
+ */
+public interface CasquatchEntityRegistry {
+
+    /**
+     * Get the statement factory constructor for each registered entity
+     * @return map of entity class to statement factory constructor
+     */
+    Map<Class<? extends AbstractCasquatchEntity>, Function<CqlSession, AbstractStatementFactory<?>>> getStatementFactories();
+
+    /**
+     * Get the type codec constructor for each type used by a registered entity
+     * @return map of type class to type codec constructor
+     */
+    default Map<Class<? extends AbstractCasquatchType>, Supplier<AbstractTypeCodec<?>>> getTypeCodecs() {
+        return Collections.emptyMap();
+    }
+}
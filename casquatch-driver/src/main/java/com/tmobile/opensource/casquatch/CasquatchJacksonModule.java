@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Jackson module registering the json serializers and deserializers generated by the annotation processor.
+ * Generated classes are found by name on first use of each entity. Entities without them use the bean serializers of Jackson
+ */
+@Slf4j
+public class CasquatchJacksonModule extends Module {
+
+    private static final ClassValue<JsonSerializer<?>> SERIALIZERS = new ClassValue<JsonSerializer<?>>() {
+        @Override
+        protected JsonSerializer<?> computeValue(Class<?> type) {
+            return (JsonSerializer<?>) load(type, CasquatchNamingConvention.classToJsonSerializer(type.getName()));
+        }
+    };
+
+    private static final ClassValue<JsonDeserializer<?>> DESERIALIZERS = new ClassValue<JsonDeserializer<?>>() {
+        @Override
+        protected JsonDeserializer<?> computeValue(Class<?> type) {
+            return (JsonDeserializer<?>) load(type, CasquatchNamingConvention.classToJsonDeserializer(type.getName()));
+        }
+    };
+
+    /**
+     * Load a generated class of an entity
+     * @param type entity class
+     * @param className name of the generated class
+     * @return instance of the generated class or null if the type is not an entity or the class was not generated
+     */
+    private static Object load(Class<?> type, String className) {
+        if(!AbstractCasquatchEntity.class.isAssignableFrom(type)) {
+            return null;
+        }
+        try {
+            return Class.forName(className, true, type.getClassLoader()).newInstance();
+        }
+        catch (ClassNotFoundException e) {
+            log.trace("No generated {} for {}. Using Jackson bean serialization",className,type);
+            return null;
+        }
+        catch (Exception e) {
+            throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_GENERATED_CLASS, "Unable to instantiate "+className);
+        }
+    }
+
+    @Override
+    public String getModuleName() {
+        return "casquatch";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.addSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                return SERIALIZERS.get(type.getRawClass());
+            }
+        });
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+                return DESERIALIZERS.get(type.getRawClass());
+            }
+        });
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Base of the json deserializers generated for each entity. Generated deserializers switch on the property name and read each column with the reader of its type,
+ * reading common types directly from the parser and delegating others to the deserializers of the context.
+ *
+ * Unknown properties are handled as configured on the mapper
+ * @param <E> entity class
+ */
+public abstract class CasquatchJsonDeserializer<E extends AbstractCasquatchEntity> extends StdDeserializer<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Initialize the deserializer
+     * @param entityClass entity class
+     */
+    protected CasquatchJsonDeserializer(Class<E> entityClass) {
+        super(entityClass);
+    }
+
+    @Override
+    public E deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.getCurrentToken();
+        if(token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+        else if(token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return wrongToken(p, ctxt);
+        }
+        E obj = newEntity();
+        for(; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.getCurrentName();
+            p.nextToken();
+            if(!deserializeField(obj, name, p, ctxt)) {
+                handleUnknownProperty(p, ctxt, obj, name);
+            }
+        }
+        return obj;
+    }
+
+    /**
+     * Report a token which can not start an object
+     * @param p parser
+     * @param ctxt context
+     * @return never returns
+     * @throws IOException mismatched input
+     */
+    @SuppressWarnings("unchecked")
+    private E wrongToken(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return (E) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+
+    /**
+     * Create an empty object
+     * @return new object
+     */
+    protected abstract E newEntity();
+
+    /**
+     * Read a column into an object
+     * @param obj object to populate
+     * @param name json property
+     * @param p parser positioned at the value
+     * @param ctxt context for deserializers of other types
+     * @return false if the property is not a column
+     * @throws IOException unable to read
+     */
+    protected abstract boolean deserializeField(E obj, String name, JsonParser p, DeserializationContext ctxt) throws IOException;
+
+    /**
+     * Read a text column
+     * @param p parser positioned at the value
+     * @param ctxt context for deserializers of other types
+     * @return value or null
+     * @throws IOException unable to read
+     */
+    protected static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch(p.getCurrentTokenId()) {
+            case JsonTokenId.ID_STRING:
+                return p.getText();
+            case JsonTokenId.ID_NULL:
+                return null;
+            default:
+                return ctxt.readValue(p, String.class);
+        }
+    }
+
+    /**
+     * Read an int column
+     * @param p parser positioned at the value
+     * @param ctxt context for deserializers of other types
+     * @return value or null
+     * @throws IOException unable to read
+     */
+    protected static Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch(p.getCurrentTokenId()) {
+            case JsonTokenId.ID_NUMBER_INT:
+                if(p.getNumberType() == JsonParser.NumberType.INT) {
+                    return p.getIntValue();
+                }
+                return ctxt.readValue(p, Integer.class);
+            case JsonTokenId.ID_NULL:
+                return null;
+            default:
+                return ctxt.readValue(p, Integer.class);
+        }
+    }
+
+    /**
+     * Read a bigint column
+     * @param p parser positioned at the value
+     * @param ctxt context for deserializers of other types
+     * @return value or null
+     * @throws IOException unable to read
+     */
+    protected static Long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch(p.getCurrentTokenId()) {
+            case JsonTokenId.ID_NUMBER_INT:
+                if(p.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                    return p.getLongValue();
+                }
+                return ctxt.readValue(p, Long.class);
+            case JsonTokenId.ID_NULL:
+                return null;
+            default:
+                return ctxt.readValue(p, Long.class);
+        }
+    }
+
+    /**
+     * Read a double column
+     * @param p parser positioned at the value
+     * @param ctxt context for deserializers of other types
+     * @return value or null
+     * @throws IOException unable to read
+     */
+    protected static Double readDouble(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch(p.getCurrentTokenId()) {
+            case JsonTokenId.ID_NUMBER_INT:
+            case JsonTokenId.ID_NUMBER_FLOAT:
+                return p.getDoubleValue();
+            case JsonTokenId.ID_NULL:
+                return null;
+            default:
+                return ctxt.readValue(p, Double.class);
+        }
+    }
+
+    /**
+     * Read a float column
+     * @param p parser positioned at the value
+     * @param ctxt context for deserializers of other types
+     * @return value or null
+     * @throws IOException unable to read
+     */
+    protected static Float readFloat(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch(p.getCurrentTokenId()) {
+            case JsonTokenId.ID_NUMBER_INT:
+            case JsonTokenId.ID_NUMBER_FLOAT:
+                return p.getFloatValue();
+            case JsonTokenId.ID_NULL:
+                return null;
+            default:
+                return ctxt.readValue(p, Float.class);
+        }
+    }
+
+    /**
+     * Read a decimal column
+     * @param p parser positioned at the value
+     * @param ctxt context for deserializers of other types
+     * @return value or null
+     * @throws IOException unable to read
+     */
+    protected static BigDecimal readBigDecimal(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch(p.getCurrentTokenId()) {
+            case JsonTokenId.ID_NUMBER_INT:
+            case JsonTokenId.ID_NUMBER_FLOAT:
+                return p.getDecimalValue();
+            case JsonTokenId.ID_NULL:
+                return null;
+            default:
+                return ctxt.readValue(p, BigDecimal.class);
+        }
+    }
+
+    /**
+     * Read a boolean column
+     * @param p parser positioned at the value
+     * @param ctxt context for deserializers of other types
+     * @return value or null
+     * @throws IOException unable to read
+     */
+    protected static Boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch(p.getCurrentTokenId()) {
+            case JsonTokenId.ID_TRUE:
+                return Boolean.TRUE;
+            case JsonTokenId.ID_FALSE:
+                return Boolean.FALSE;
+            case JsonTokenId.ID_NULL:
+                return null;
+            default:
+                return ctxt.readValue(p, Boolean.class);
+        }
+    }
+
+    /**
+     * Read a uuid or timeuuid column
+     * @param p parser positioned at the value
+     * @param ctxt context for deserializers of other types
+     * @return value or null
+     * @throws IOException unable to read
+     */
+    protected static UUID readUUID(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch(p.getCurrentTokenId()) {
+            case JsonTokenId.ID_STRING:
+                String text = p.getText();
+                if(text.length() == 36 && text.charAt(8) == '-' && text.charAt(13) == '-' && text.charAt(18) == '-' && text.charAt(23) == '-') {
+                    try {
+                        return UUID.fromString(text);
+                    }
+                    catch (IllegalArgumentException e) {
+                        //Reported by the deserializer of the context
+                    }
+                }
+                return ctxt.readValue(p, UUID.class);
+            case JsonTokenId.ID_NULL:
+                return null;
+            default:
+                return ctxt.readValue(p, UUID.class);
+        }
+    }
+
+    /**
+     * Read a column of any other type with the deserializer of the context
+     * @param p parser positioned at the value
+     * @param ctxt context for deserializers of other types
+     * @param type type of the column
+     * @param <T> type of the column
+     * @return value or null
+     * @throws IOException unable to read
+     */
+    protected static <T> T readValue(JsonParser p, DeserializationContext ctxt, JavaType type) throws IOException {
+        if(p.getCurrentTokenId() == JsonTokenId.ID_NULL && !type.isPrimitive()) {
+            return null;
+        }
+        return ctxt.readValue(p, type);
+    }
+}
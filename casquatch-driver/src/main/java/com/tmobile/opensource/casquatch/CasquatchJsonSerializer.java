@@ -0,0 +1,250 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Base of the json serializers generated for each entity. Generated serializers write each column with the writeField overload of its type,
+ * writing common types directly and delegating others to the serializers of the provider.
+ *
+ * Null columns are written unless the default property inclusion of the mapper excludes them
+ * @param <E> entity class
+ */
+public abstract class CasquatchJsonSerializer<E extends AbstractCasquatchEntity> extends StdSerializer<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Initialize the serializer
+     * @param entityClass entity class
+     */
+    protected CasquatchJsonSerializer(Class<E> entityClass) {
+        super(entityClass);
+    }
+
+    @Override
+    public void serialize(E obj, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(handledType()).getValueInclusion();
+        gen.writeStartObject(obj);
+        serializeFields(obj, gen, provider, inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS);
+        gen.writeEndObject();
+    }
+
+    /**
+     * Write the columns of an object
+     * @param obj populated object
+     * @param gen generator positioned inside the object
+     * @param provider provider for serializers of other types
+     * @param writeNulls true if null columns should be written
+     * @throws IOException unable to write
+     */
+    protected abstract void serializeFields(E obj, JsonGenerator gen, SerializerProvider provider, boolean writeNulls) throws IOException;
+
+    /**
+     * Write a null column if nulls are written
+     * @param gen generator
+     * @param name json property
+     * @param writeNulls true if null columns should be written
+     * @throws IOException unable to write
+     */
+    private static void writeNull(JsonGenerator gen, SerializableString name, boolean writeNulls) throws IOException {
+        if(writeNulls) {
+            gen.writeFieldName(name);
+            gen.writeNull();
+        }
+    }
+
+    /**
+     * Write a text column
+     * @param gen generator
+     * @param provider provider for serializers of other types
+     * @param writeNulls true if null columns should be written
+     * @param name json property
+     * @param value value of the column
+     * @throws IOException unable to write
+     */
+    protected static void writeField(JsonGenerator gen, SerializerProvider provider, boolean writeNulls, SerializableString name, String value) throws IOException {
+        if(value == null) {
+            writeNull(gen, name, writeNulls);
+        }
+        else {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    /**
+     * Write an int column
+     * @param gen generator
+     * @param provider provider for serializers of other types
+     * @param writeNulls true if null columns should be written
+     * @param name json property
+     * @param value value of the column
+     * @throws IOException unable to write
+     */
+    protected static void writeField(JsonGenerator gen, SerializerProvider provider, boolean writeNulls, SerializableString name, Integer value) throws IOException {
+        if(value == null) {
+            writeNull(gen, name, writeNulls);
+        }
+        else {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        }
+    }
+
+    /**
+     * Write a bigint column
+     * @param gen generator
+     * @param provider provider for serializers of other types
+     * @param writeNulls true if null columns should be written
+     * @param name json property
+     * @param value value of the column
+     * @throws IOException unable to write
+     */
+    protected static void writeField(JsonGenerator gen, SerializerProvider provider, boolean writeNulls, SerializableString name, Long value) throws IOException {
+        if(value == null) {
+            writeNull(gen, name, writeNulls);
+        }
+        else {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        }
+    }
+
+    /**
+     * Write a double column
+     * @param gen generator
+     * @param provider provider for serializers of other types
+     * @param writeNulls true if null columns should be written
+     * @param name json property
+     * @param value value of the column
+     * @throws IOException unable to write
+     */
+    protected static void writeField(JsonGenerator gen, SerializerProvider provider, boolean writeNulls, SerializableString name, Double value) throws IOException {
+        if(value == null) {
+            writeNull(gen, name, writeNulls);
+        }
+        else {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        }
+    }
+
+    /**
+     * Write a float column
+     * @param gen generator
+     * @param provider provider for serializers of other types
+     * @param writeNulls true if null columns should be written
+     * @param name json property
+     * @param value value of the column
+     * @throws IOException unable to write
+     */
+    protected static void writeField(JsonGenerator gen, SerializerProvider provider, boolean writeNulls, SerializableString name, Float value) throws IOException {
+        if(value == null) {
+            writeNull(gen, name, writeNulls);
+        }
+        else {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        }
+    }
+
+    /**
+     * Write a decimal column
+     * @param gen generator
+     * @param provider provider for serializers of other types
+     * @param writeNulls true if null columns should be written
+     * @param name json property
+     * @param value value of the column
+     * @throws IOException unable to write
+     */
+    protected static void writeField(JsonGenerator gen, SerializerProvider provider, boolean writeNulls, SerializableString name, BigDecimal value) throws IOException {
+        if(value == null) {
+            writeNull(gen, name, writeNulls);
+        }
+        else {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        }
+    }
+
+    /**
+     * Write a boolean column
+     * @param gen generator
+     * @param provider provider for serializers of other types
+     * @param writeNulls true if null columns should be written
+     * @param name json property
+     * @param value value of the column
+     * @throws IOException unable to write
+     */
+    protected static void writeField(JsonGenerator gen, SerializerProvider provider, boolean writeNulls, SerializableString name, Boolean value) throws IOException {
+        if(value == null) {
+            writeNull(gen, name, writeNulls);
+        }
+        else {
+            gen.writeFieldName(name);
+            gen.writeBoolean(value);
+        }
+    }
+
+    /**
+     * Write a uuid or timeuuid column
+     * @param gen generator
+     * @param provider provider for serializers of other types
+     * @param writeNulls true if null columns should be written
+     * @param name json property
+     * @param value value of the column
+     * @throws IOException unable to write
+     */
+    protected static void writeField(JsonGenerator gen, SerializerProvider provider, boolean writeNulls, SerializableString name, UUID value) throws IOException {
+        if(value == null) {
+            writeNull(gen, name, writeNulls);
+        }
+        else {
+            gen.writeFieldName(name);
+            gen.writeString(value.toString());
+        }
+    }
+
+    /**
+     * Write a column of any other type with the serializer of the provider
+     * @param gen generator
+     * @param provider provider for serializers of other types
+     * @param writeNulls true if null columns should be written
+     * @param name json property
+     * @param value value of the column
+     * @throws IOException unable to write
+     */
+    protected static void writeField(JsonGenerator gen, SerializerProvider provider, boolean writeNulls, SerializableString name, Object value) throws IOException {
+        if(value == null) {
+            writeNull(gen, name, writeNulls);
+        }
+        else {
+            gen.writeFieldName(name);
+            provider.defaultSerializeValue(value, gen);
+        }
+    }
+}
@@ -38,6 +38,13 @@ public class CasquatchNamingConvention {
         return WordUtils.uncapitalize(WordUtils.capitalizeFully(api,'/','-').replaceAll("([^a-zA-Z0-9])",""));
     }
 
+    /**
+     * convert package to entity registry class
+     * @param packageName package name
+     * @return entity registry class name
+     */
+    public static String packageToEntityRegistry(String packageName) { return packageName+".Casquatch_EntityRegistry";}
+
     /**
      * convert class to package name
      * @param className class name
@@ -69,6 +76,34 @@ public class CasquatchNamingConvention {
      * @return external tests class name
      */
     public static String classToExternalTests(String className) { return className+"_ExternalTests";}
+    /**
+     * convert class to entity methods class
+     * @param className class name
+     * @return entity methods class name
+     */
+    public static String classToEntityMethods(String className) { return className+"_EntityMethods";}
+
+    /**
+     * convert class to json serializer class
+     * @param className class name
+     * @return json serializer class name
+     */
+    public static String classToJsonSerializer(String className) { return className+"_JsonSerializer";}
+
+    /**
+     * convert class to json deserializer class
+     * @param className class name
+     * @return json deserializer class name
+     */
+    public static String classToJsonDeserializer(String className) { return className+"_JsonDeserializer";}
+
+    /**
+     * convert class to primary key class
+     * @param className class name
+     * @return primary key class name
+     */
+    public static String classToKey(String className) { return className+"_Key";}
+
     /**
      * convert class to rest dao class
      * @param className class name
@@ -98,11 +133,20 @@ public class CasquatchNamingConvention {
 
     /**
      * convert class to type factory class
+     * Deprecated: Please use {@link CasquatchNamingConvention#classToTypeCodec(String)}
      * @param className class name
      * @return type factory class name
      */
+    @Deprecated
     public static String classToTypeFactory(String className) { return className+"_TypeFactory";}
 
+    /**
+     * convert class to type codec class
+     * @param className class name
+     * @return type codec class name
+     */
+    public static String classToTypeCodec(String className) { return className+"_TypeCodec";}
+
     /**
      * Convert class name to var
      * @param className name of class
@@ -314,6 +358,21 @@ public class CasquatchNamingConvention {
         return "get"+ WordUtils.capitalize(javaVariable);
     }
 
+    /**
+     * Converts a java variable name to the json property of its getter, lower casing the leading upper case characters as Jackson does
+     * @param javaVariable name of java variable
+     * @return name of the json property
+     */
+    public static String javaVariableToJson(String javaVariable) {
+        String property = WordUtils.capitalize(javaVariable);
+        StringBuilder json = new StringBuilder(property.length());
+        int i = 0;
+        for(; i<property.length() && Character.isUpperCase(property.charAt(i)); i++) {
+            json.append(Character.toLowerCase(property.charAt(i)));
+        }
+        return json.append(property, i, property.length()).toString();
+    }
+
     /**
      * Converts a java variable name to setter
      * @param javaVariable name of java variable
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Shared {@link ObjectMapper} with the {@link CasquatchJacksonModule} registered. The mapper is thread safe once configured and must not be reconfigured
+ */
+public class CasquatchObjectMapper {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new CasquatchJacksonModule());
+
+    private CasquatchObjectMapper() {
+    }
+
+    /**
+     * Get the shared mapper
+     * @return shared object mapper
+     */
+    public static ObjectMapper getObjectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Convert an object to json with the shared mapper
+     * @param obj object to convert
+     * @return json representation of object or an error message if it can not be converted
+     */
+    public static String toJson(Object obj) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(obj);
+        } catch (JsonProcessingException e) {
+            return "Unable to convert to JSON";
+        }
+    }
+}
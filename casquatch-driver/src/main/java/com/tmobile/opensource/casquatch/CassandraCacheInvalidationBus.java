@@ -0,0 +1,226 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.uuid.Uuids;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.typesafe.config.Config;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+
+/**
+ * Cache invalidation bus backed by a Cassandra table. Published keys are batched and written once per interval as one row per cache,
+ * in a partition per time bucket. Each member polls the current time buckets once per interval.
+ *
+ * Rows are read back to the lookback before the previous poll to allow for clock skew between members. Rows already seen and rows published by this member are skipped.
+ */
+@Slf4j
+public class CassandraCacheInvalidationBus extends CacheInvalidationBus {
+
+    /**
+     * Maximum number of keys in one row
+     */
+    private static final int MAX_KEYS_PER_ROW = 1000;
+
+    private final UUID source = Uuids.random();
+    private final ConcurrentMap<String, Set<Consumer<ByteBuffer>>> listeners = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<ByteBuffer>> pending = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> seen = new HashMap<>();
+    private CqlSession session;
+    private PreparedStatement insertStatement;
+    private PreparedStatement selectStatement;
+    private long bucketMillis;
+    private long lookbackMillis;
+    private long lastPoll;
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void start(CqlSession session, Config config) {
+        this.session = session;
+        CqlIdentifier table = CqlIdentifier.fromCql(config.getString("table"));
+        this.bucketMillis = config.getDuration("bucket").toMillis();
+        this.lookbackMillis = config.getDuration("lookback").toMillis();
+        long intervalMillis = config.getDuration("interval").toMillis();
+        if(config.getBoolean("create-table")) {
+            session.execute(SimpleStatement.newInstance(String.format("CREATE TABLE IF NOT EXISTS %s (bucket bigint, id timeuuid, source uuid, cache text, keys list<blob>, PRIMARY KEY (bucket, id)) WITH default_time_to_live = %d",table.asCql(true),config.getDuration("ttl").getSeconds())).setExecutionProfileName("ddl"));
+        }
+        this.insertStatement = session.prepare(QueryBuilder.insertInto(table)
+                .value("bucket", bindMarker())
+                .value("id", bindMarker())
+                .value("source", bindMarker())
+                .value("cache", bindMarker())
+                .value("keys", bindMarker())
+                .build());
+        this.selectStatement = session.prepare(QueryBuilder.selectFrom(table).all()
+                .whereColumn("bucket").isEqualTo(bindMarker())
+                .whereColumn("id").isGreaterThan(bindMarker())
+                .build());
+        this.lastPoll = System.currentTimeMillis();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "casquatch-cache-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::run, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.debug("Cache invalidation bus {} started on {}",source,table);
+    }
+
+    @Override
+    public void publish(String cacheName, ByteBuffer key) {
+        //Added within compute so the key is either in the set removed by publishPending or in a new set
+        pending.compute(cacheName, (k, keys) -> {
+            Set<ByteBuffer> pendingKeys = keys != null ? keys : new HashSet<>();
+            pendingKeys.add(key);
+            return pendingKeys;
+        });
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<ByteBuffer> listener) {
+        listeners.computeIfAbsent(cacheName, k -> new CopyOnWriteArraySet<>()).add(listener);
+    }
+
+    @Override
+    public void unsubscribe(String cacheName, Consumer<ByteBuffer> listener) {
+        Set<Consumer<ByteBuffer>> cacheListeners = listeners.get(cacheName);
+        if(cacheListeners != null) {
+            cacheListeners.remove(listener);
+        }
+    }
+
+    @Override
+    public void close() {
+        if(executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.publishPending();
+        }
+    }
+
+    /**
+     * Publish pending keys then poll for keys published by other members. A failure to publish does not prevent the poll
+     */
+    private void run() {
+        this.publishPending();
+        try {
+            this.poll();
+        }
+        catch (RuntimeException e) {
+            log.warn("Cache invalidation bus {} failed to poll. Retrying on next interval",source,e);
+        }
+    }
+
+    /**
+     * Write the pending keys of each cache. The set of each cache is removed atomically so keys published meanwhile start a new set.
+     * Keys which fail to write remain pending for the next interval and the remaining caches are still written
+     */
+    private void publishPending() {
+        for(String cacheName : pending.keySet()) {
+            Set<ByteBuffer> keys = pending.remove(cacheName);
+            if(keys == null || keys.isEmpty()) {
+                continue;
+            }
+            List<ByteBuffer> keyList = new ArrayList<>(keys);
+            int published = 0;
+            try {
+                while(published<keyList.size()) {
+                    List<ByteBuffer> chunk = keyList.subList(published, Math.min(published+MAX_KEYS_PER_ROW, keyList.size()));
+                    UUID id = Uuids.timeBased();
+                    session.execute(insertStatement.bind(Uuids.unixTimestamp(id)/bucketMillis, id, source, cacheName, new ArrayList<>(chunk)));
+                    published += chunk.size();
+                }
+                log.debug("Cache invalidation bus {} published {} keys of {}",source,keyList.size(),cacheName);
+            }
+            catch (RuntimeException e) {
+                List<ByteBuffer> unpublished = keyList.subList(published, keyList.size());
+                pending.compute(cacheName, (k, pendingKeys) -> {
+                    Set<ByteBuffer> requeued = pendingKeys != null ? pendingKeys : new HashSet<>();
+                    requeued.addAll(unpublished);
+                    return requeued;
+                });
+                log.warn("Cache invalidation bus {} failed to publish {} keys of {}. Retrying on next interval",source,unpublished.size(),cacheName,e);
+            }
+        }
+    }
+
+    /**
+     * Read the rows written since the previous poll and notify listeners of keys published by other members
+     */
+    private void poll() {
+        long now = System.currentTimeMillis();
+        long from = lastPoll - lookbackMillis;
+        UUID fromId = Uuids.startOf(from);
+        for(long bucket = from/bucketMillis; bucket <= now/bucketMillis; bucket++) {
+            for(Row row : session.execute(selectStatement.bind(bucket, fromId))) {
+                UUID id = row.getUuid("id");
+                if(seen.put(id, Uuids.unixTimestamp(id)) != null || source.equals(row.getUuid("source"))) {
+                    continue;
+                }
+                Set<Consumer<ByteBuffer>> cacheListeners = listeners.get(row.getString("cache"));
+                if(cacheListeners == null) {
+                    continue;
+                }
+                List<ByteBuffer> keys = row.getList("keys", ByteBuffer.class);
+                log.debug("Cache invalidation bus {} received {} keys of {}",source,keys.size(),row.getString("cache"));
+                for(ByteBuffer key : keys) {
+                    for(Consumer<ByteBuffer> listener : cacheListeners) {
+                        try {
+                            listener.accept(key.duplicate());
+                        }
+                        catch (RuntimeException e) {
+                            log.warn("Cache invalidation bus {} listener of {} failed",source,row.getString("cache"),e);
+                        }
+                    }
+                }
+            }
+        }
+        for(Iterator<Long> iterator = seen.values().iterator(); iterator.hasNext();) {
+            if(iterator.next() < from) {
+                iterator.remove();
+            }
+        }
+        lastPoll = now;
+    }
+}
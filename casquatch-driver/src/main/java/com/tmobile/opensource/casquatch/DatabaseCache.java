@@ -16,46 +16,249 @@
 
 package com.tmobile.opensource.casquatch;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheWriter;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 
 /**
- * Interface for generic database cache
+ * Thread safe, size bounded database cache. Eviction is frequency aware (W-TinyLFU) and expired entries are removed in the background.
+ *
+ * With an off heap maximum size objects evicted from the heap are kept encoded in direct memory and moved back to the heap when read.
+ * With a snapshot directory the cache is written to a snapshot on close and reloaded from it on creation.
+ * With write behind objects set in the cache are written to the database asynchronously, coalescing repeated writes of a key.
+ * With invalidation keys set in the cache are published to the cache invalidation bus of the dao and keys published by caches of the same type in other JVMs are evicted.
  */
 @Slf4j
-public class DatabaseCache<E extends AbstractCasquatchEntity> {
+public class DatabaseCache<E extends AbstractCasquatchEntity> implements AutoCloseable {
+
+    /**
+     * Shared daemon thread used to expire entries of every cache
+     */
+    private static final ScheduledExecutorService EXPIRATION_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "casquatch-cache-expiration");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
-     * Internal class to represent a cache item
+     * Shared daemon thread used to start the flushes of pending writes of every cache. Writes are executed asynchronously so a slow database never delays expiration
+     */
+    private static final ScheduledExecutorService WRITE_BEHIND_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "casquatch-cache-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Internal class to represent a cache item. A null item records that the key was not found
      */
     @AllArgsConstructor
     @Getter
-    private class CacheItem {
-        E item;
-        Long expiration;
+    private static class CacheItem<E> {
+        private final E item;
+        private final long written;
+    }
+
+    /**
+     * Point in time statistics of the cache
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CacheStats {
+        private final long hits;
+        private final long staleHits;
+        private final long negativeHits;
+        private final long offHeapHits;
+        private final long misses;
+        private final long loads;
+        private final long coalescedLoads;
+        private final long refreshes;
+        private final long coalescedWrites;
+        private final long invalidations;
+        private final long size;
+        private final long offHeapSize;
+        private final long pendingWrites;
+
+        /**
+         * Return stats as a string
+         * @return string representation of stats
+         */
+        public String toString() {
+            return String.format("hits=%d, staleHits=%d, negativeHits=%d, offHeapHits=%d, misses=%d, loads=%d, coalescedLoads=%d, refreshes=%d, coalescedWrites=%d, invalidations=%d, size=%d, offHeapSize=%d, pendingWrites=%d",this.hits,this.staleHits,this.negativeHits,this.offHeapHits,this.misses,this.loads,this.coalescedLoads,this.refreshes,this.coalescedWrites,this.invalidations,this.size,this.offHeapSize,this.pendingWrites);
+        }
     }
 
+    /**
+     * Maximum number of clustering values in one IN query of getAll
+     */
+    private static final int MAX_IN_SIZE = 100;
+
     private final CasquatchDao dao;
     private final Class<E> classType;
-    private final Long expirationTime;
-    private final Map<String, CacheItem> cacheMap;
+    private final AbstractStatementFactory<E> statementFactory;
+    private final Cache<Object, CacheItem<E>> cache;
+    private final OffHeapStore offHeapStore;
+    private final Path snapshotFile;
+    private final long maximumSize;
+    private final long retentionNanos;
+    private final boolean writeBehind;
+    private final long writeBehindFlushSize;
+    private final long writeBehindMaximumPending;
+    private final long writeBehindTimeoutNanos;
+    private final ScheduledFuture<?> writeBehindTask;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Consumer<ByteBuffer> invalidationListener = this::invalidate;
+    private final ConcurrentMap<Object, E> pendingWrites = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final Object capacityLock = new Object();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private CompletableFuture<Void> flushChain = CompletableFuture.completedFuture(null);
+    private boolean flushQueued;
+    private final long expirationNanos;
+    private final long refreshNanos;
+    private final boolean staleWhileRevalidate;
+    private final boolean negativeCaching;
+    private final ConcurrentMap<Object, CompletableFuture<E>> inFlightLoads = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder offHeapHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder coalescedWrites = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
 
     /**
      * Initializes the Cache
      * @param classType Type of class to cache
      * @param dao Database connection to use
-     * @param expirationTime Time in milliseconds to expire cache
+     * @param cacheOptions Options for expiration, size, refresh, negative caching, off heap storage, snapshots, write behind and invalidation
      */
-    public DatabaseCache (Class<E> classType, CasquatchDao dao, Long expirationTime) {
+    public DatabaseCache (Class<E> classType, CasquatchDao dao, CacheOptions cacheOptions) {
         this.dao = dao;
         this.classType = classType;
-        this.expirationTime = expirationTime;
-        this.cacheMap = new HashMap<>();
+        this.statementFactory = dao.getStatementFactory(classType);
+        this.expirationNanos = cacheOptions.getExpiration().toNanos();
+        //Entries are refreshed once they are within refresh-ahead of expiring. Without it stale entries are refreshed on first read
+        this.refreshNanos = cacheOptions.getRefreshAhead()!=null ? Math.max(0,expirationNanos-cacheOptions.getRefreshAhead().toNanos()) : expirationNanos;
+        this.staleWhileRevalidate = cacheOptions.getStaleWhileRevalidate()!=null;
+        this.negativeCaching = cacheOptions.getNegativeExpiration()!=null;
+        Duration retention = cacheOptions.getExpiration();
+        if(this.staleWhileRevalidate) {
+            retention = retention.plus(cacheOptions.getStaleWhileRevalidate());
+        }
+        long retentionNanos = retention.toNanos();
+        this.retentionNanos = retentionNanos;
+        this.maximumSize = cacheOptions.getMaximumSize();
+        this.snapshotFile = cacheOptions.getSnapshotDirectory()!=null ? cacheOptions.getSnapshotDirectory().resolve(classType.getName()+".snapshot") : null;
+        long negativeRetentionNanos = this.negativeCaching ? cacheOptions.getNegativeExpiration().toNanos() : 0;
+        Scheduler scheduler = Scheduler.forScheduledExecutorService(EXPIRATION_EXECUTOR);
+        this.offHeapStore = cacheOptions.getOffHeapMaximumSize()!=null ? new OffHeapStore(cacheOptions.getOffHeapMaximumSize(), statementFactory.getKeyColumnCount(), retentionNanos) : null;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheOptions.getMaximumSize())
+                .expireAfter(new Expiry<Object, CacheItem<E>>() {
+                    @Override
+                    public long expireAfterCreate(Object key, CacheItem<E> value, long currentTime) {
+                        //Entries moved back from off heap keep their original write time
+                        return Math.max(0, (value.getItem()==null ? negativeRetentionNanos : retentionNanos) - (currentTime - value.getWritten()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Object key, CacheItem<E> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Object key, CacheItem<E> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                //Evicted entries are moved off heap by the writer, which runs inside the eviction rather than after it as a removal listener would.
+                //Otherwise a set or invalidation of the key between the eviction and the move is overwritten by the evicted entry
+                .writer(new CacheWriter<Object, CacheItem<E>>() {
+                    @Override
+                    public void write(Object cacheKey, CacheItem<E> cacheItem) {
+
+                    }
+
+                    @Override
+                    public void delete(Object cacheKey, CacheItem<E> cacheItem, RemovalCause cause) {
+                        if(cause == RemovalCause.SIZE) {
+                            moveOffHeap(cacheKey, cacheItem);
+                        }
+                    }
+                })
+                .scheduler(scheduler)
+                .build();
+        this.writeBehind = cacheOptions.getWriteBehind()!=null;
+        this.writeBehindFlushSize = cacheOptions.getWriteBehindFlushSize();
+        this.writeBehindMaximumPending = cacheOptions.getWriteBehindMaximumPending();
+        this.writeBehindTimeoutNanos = cacheOptions.getWriteBehindTimeout().toNanos();
+        if(this.writeBehind) {
+            long intervalNanos = cacheOptions.getWriteBehind().toNanos();
+            this.writeBehindTask = WRITE_BEHIND_EXECUTOR.scheduleWithFixedDelay(this::flushAsync, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+        else {
+            this.writeBehindTask = null;
+        }
+        if(log.isTraceEnabled()) log.trace("DatabaseCache <{}> Created with {}",this.classType,cacheOptions);
+        if(this.snapshotFile != null) {
+            this.restore();
+        }
+        if(cacheOptions.getInvalidation()) {
+            this.cacheInvalidationBus = dao.getCacheInvalidationBus();
+            this.cacheInvalidationBus.subscribe(this.getCacheName(), invalidationListener);
+        }
+        else {
+            this.cacheInvalidationBus = null;
+        }
+        if(this.snapshotFile != null || this.writeBehind || this.cacheInvalidationBus != null) {
+            dao.registerCache(this);
+        }
+    }
+
+    /**
+     * Initializes the Cache
+     * @param classType Type of class to cache
+     * @param dao Database connection to use
+     * @param expirationTime Time in milliseconds to expire cache
+     */
+    public DatabaseCache (Class<E> classType, CasquatchDao dao, Long expirationTime) {
+        this(classType,dao,new CacheOptions().withExpiration(Duration.ofMillis(expirationTime)));
     }
 
     /**
@@ -64,113 +267,667 @@ public class DatabaseCache<E extends AbstractCasquatchEntity> {
      * @param dao Database connection to use
      */
     public DatabaseCache (Class<E> classType, CasquatchDao dao) {
-        this(classType,dao, (long) (15 * 60 * 1000));
+        this(classType,dao,new CacheOptions());
     }
 
     /**
-     * Get the cached object for a key
+     * Get the cached object for a key. Concurrent misses on the same key share a single database load.
+     *
+     * Entries near expiry are reloaded in the background while the cached object is returned. With stale-while-revalidate an expired entry is also returned while it is reloaded.
      * @param key Key for cache
      * @return Object containing the cached object
      */
     public E get(E key) {
-        //noinspection unchecked
-        key = (E) key.keys();
-        if(checkCache(key)) {
-            log.debug("DatabaseCache <{}> Returned {} from cache",this.classType,key);
-            return getCache(key);
+        Object cacheKey = statementFactory.key(key);
+        CacheItem<E> cacheItem = this.lookup(cacheKey, key);
+        if(cacheItem != null) {
+            return cacheItem.getItem();
         }
-        else {
-            E obj = dao.getById(this.classType,key);
-            if(obj == null) {
-                log.debug("DatabaseCache <{}> Returned null from DB", this.classType);
-                return null;
+
+        CompletableFuture<E> load = new CompletableFuture<>();
+        CompletableFuture<E> inFlightLoad = inFlightLoads.putIfAbsent(cacheKey, load);
+        if(inFlightLoad != null) {
+            coalescedLoads.increment();
+            log.debug("DatabaseCache <{}> Waiting on in flight load of {}",this.classType,cacheKey);
+            return join(inFlightLoad);
+        }
+        E obj;
+        try {
+            //A load may have completed between the miss and registering this one
+            cacheItem = cache.getIfPresent(cacheKey);
+            if(cacheItem != null && (cacheItem.getItem() == null || System.nanoTime() - cacheItem.getWritten() < expirationNanos)) {
+                obj = cacheItem.getItem();
+            }
+            else {
+                loads.increment();
+                obj = dao.getById(this.classType,key);
+                this.setCache(key, cacheKey, obj);
+            }
+            load.complete(obj);
+        }
+        catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            inFlightLoads.remove(cacheKey, load);
+        }
+        log.debug("DatabaseCache <{}> Returned {} from DB", this.classType, obj==null ? null : cacheKey);
+        return obj;
+    }
+
+    /**
+     * Get the cached objects for several keys. Hits are answered from memory and all misses are loaded concurrently.
+     * Misses which differ only in the last clustering column are read with one IN query where the schema allows
+     * @param keys Keys for cache
+     * @return list in the order of keys containing the cached object or null if it was not found
+     */
+    public List<E> getAll(Collection<E> keys) {
+        List<Object> cacheKeys = new ArrayList<>(keys.size());
+        Map<Object, E> results = new HashMap<>();
+        Map<Object, CompletableFuture<E>> pending = new HashMap<>();
+        Map<Object, CompletableFuture<E>> owned = new HashMap<>();
+        Map<Object, List<E>> groups = new LinkedHashMap<>();
+        for(E key : keys) {
+            Object cacheKey = statementFactory.key(key);
+            cacheKeys.add(cacheKey);
+            if(results.containsKey(cacheKey) || pending.containsKey(cacheKey)) {
+                continue;
+            }
+            CacheItem<E> cacheItem = this.lookup(cacheKey, key);
+            if(cacheItem != null) {
+                results.put(cacheKey, cacheItem.getItem());
+                continue;
+            }
+            CompletableFuture<E> load = new CompletableFuture<>();
+            CompletableFuture<E> inFlightLoad = inFlightLoads.putIfAbsent(cacheKey, load);
+            if(inFlightLoad != null) {
+                coalescedLoads.increment();
+                pending.put(cacheKey, inFlightLoad);
+            }
+            else {
+                pending.put(cacheKey, load);
+                owned.put(cacheKey, load);
+                groups.computeIfAbsent(this.getInGroup(key), k -> new ArrayList<>()).add(key);
+            }
+        }
+
+        loads.add(owned.size());
+        for(List<E> group : groups.values()) {
+            if(group.size() > 1) {
+                for(int i=0;i<group.size();i+=MAX_IN_SIZE) {
+                    List<E> chunk = group.subList(i, Math.min(i+MAX_IN_SIZE, group.size()));
+                    this.completeLoads(chunk, owned, () -> dao.getAllByIdInAsync(this.classType, chunk));
+                }
+            }
+            else {
+                for(E key : group) {
+                    this.completeLoads(Collections.singletonList(key), owned, () -> dao.getByIdAsync(this.classType, key).thenApply(Collections::singletonList));
+                }
+            }
+        }
+        log.debug("DatabaseCache <{}> Loading {} of {} keys in {} queries", this.classType, owned.size(), keys.size(), groups.size());
+
+        for(Map.Entry<Object, CompletableFuture<E>> entry : pending.entrySet()) {
+            results.put(entry.getKey(), join(entry.getValue()));
+        }
+        List<E> objects = new ArrayList<>(cacheKeys.size());
+        for(Object cacheKey : cacheKeys) {
+            objects.add(results.get(cacheKey));
+        }
+        return objects;
+    }
+
+    /**
+     * Group keys which can be read with one IN query. Keys share a group when every key column except the last clustering column matches
+     * @param key Key for cache
+     * @return group of the key. Without a clustering column every key is its own group
+     */
+    private Object getInGroup(E key) {
+        if(!statementFactory.supportsGetIn()) {
+            return statementFactory.key(key);
+        }
+        List<Object> group = new ArrayList<>(statementFactory.getKeyColumnCount()-1);
+        for(int i=0;i<statementFactory.getKeyColumnCount()-1;i++) {
+            group.add(statementFactory.getKeyValue(key,i));
+        }
+        return group;
+    }
+
+    /**
+     * Start a load of several keys and complete their in flight loads with the result, caching each object or not found result
+     * @param keys keys being loaded
+     * @param owned in flight loads registered by this caller
+     * @param query supplier of the asynchronous query
+     */
+    private void completeLoads(List<E> keys, Map<Object, CompletableFuture<E>> owned, Supplier<CompletableFuture<List<E>>> query) {
+        CompletableFuture<List<E>> rows;
+        try {
+            rows = query.get();
+        }
+        catch (RuntimeException e) {
+            rows = new CompletableFuture<>();
+            rows.completeExceptionally(e);
+        }
+        rows.whenComplete((found, throwable) -> {
+            Map<Object, E> foundByKey = new HashMap<>();
+            if(found != null) {
+                for(E obj : found) {
+                    if(obj != null) {
+                        foundByKey.put(statementFactory.key(obj), obj);
+                    }
+                }
+            }
+            for(E key : keys) {
+                Object cacheKey = statementFactory.key(key);
+                CompletableFuture<E> load = owned.get(cacheKey);
+                if(throwable != null) {
+                    load.completeExceptionally(throwable);
+                }
+                else {
+                    E obj = foundByKey.get(cacheKey);
+                    this.setCache(key, cacheKey, obj);
+                    load.complete(obj);
+                }
+                inFlightLoads.remove(cacheKey, load);
+            }
+        });
+    }
+
+    /**
+     * Private function to find a usable entry, counting hits and starting a refresh when due
+     * @param cacheKey generated key of the entry
+     * @param key Key for cache
+     * @return usable entry or null on a miss
+     */
+    private CacheItem<E> lookup(Object cacheKey, E key) {
+        CacheItem<E> cacheItem = cache.getIfPresent(cacheKey);
+        if(cacheItem == null && offHeapStore != null) {
+            cacheItem = this.moveOnHeap(cacheKey, key);
+        }
+        if(cacheItem == null && writeBehind) {
+            E pending = pendingWrites.get(cacheKey);
+            if(pending != null) {
+                cacheItem = new CacheItem<>(pending, System.nanoTime());
+                cache.put(cacheKey, cacheItem);
+            }
+        }
+        if(cacheItem != null && cacheItem.getItem() == null) {
+            negativeHits.increment();
+            log.debug("DatabaseCache <{}> Returned not found for {} from cache",this.classType,cacheKey);
+            return cacheItem;
+        }
+        long age = cacheItem != null ? System.nanoTime() - cacheItem.getWritten() : 0;
+        if(cacheItem != null && (age < expirationNanos || staleWhileRevalidate)) {
+            if(age < expirationNanos) {
+                hits.increment();
+                log.debug("DatabaseCache <{}> Returned {} from cache",this.classType,cacheKey);
+            }
+            else {
+                staleHits.increment();
+                log.debug("DatabaseCache <{}> Returned stale {} from cache",this.classType,cacheKey);
+            }
+            if(age >= refreshNanos) {
+                this.refresh(cacheKey, key);
+            }
+            return cacheItem;
+        }
+        misses.increment();
+        log.debug("DatabaseCache <{}> Miss: {}",this.classType,cacheKey);
+        return null;
+    }
+
+    /**
+     * Private function to encode an object evicted from the heap into the off heap store
+     * @param cacheKey generated key of the entry
+     * @param cacheItem evicted entry
+     */
+    private void moveOffHeap(Object cacheKey, CacheItem<E> cacheItem) {
+        if(offHeapStore == null || cacheItem == null || cacheItem.getItem() == null) {
+            return;
+        }
+        try {
+            ByteBuffer encoded = statementFactory.encode(cacheItem.getItem(), ByteBuffer::allocate);
+            encoded.flip();
+            offHeapStore.put(cacheItem.getWritten(), encoded);
+            log.debug("DatabaseCache <{}> Moved {} off heap",this.classType,cacheKey);
+        }
+        catch (RuntimeException e) {
+            log.warn("DatabaseCache <{}> Failed to move {} off heap",this.classType,cacheKey,e);
+        }
+    }
+
+    /**
+     * Private function to decode an object from the off heap store and move it back to the heap
+     * @param cacheKey generated key of the entry
+     * @param key Key for cache
+     * @return entry or null if not stored off heap
+     */
+    private CacheItem<E> moveOnHeap(Object cacheKey, E key) {
+        ByteBuffer buffer = offHeapStore.remove(statementFactory.encodeKey(key));
+        if(buffer == null) {
+            return null;
+        }
+        offHeapHits.increment();
+        CacheItem<E> cacheItem = new CacheItem<>(statementFactory.decode(OffHeapStore.getEncoded(buffer)), OffHeapStore.getWritten(buffer));
+        CacheItem<E> existing = cache.asMap().putIfAbsent(cacheKey, cacheItem);
+        log.debug("DatabaseCache <{}> Moved {} on heap",this.classType,cacheKey);
+        return existing != null ? existing : cacheItem;
+    }
+
+    /**
+     * Reload an entry asynchronously unless a load of the key is already in flight
+     * @param cacheKey generated key of the entry
+     * @param key Key for cache
+     */
+    private void refresh(Object cacheKey, E key) {
+        CompletableFuture<E> load = new CompletableFuture<>();
+        if(inFlightLoads.putIfAbsent(cacheKey, load) != null) {
+            return;
+        }
+        refreshes.increment();
+        log.debug("DatabaseCache <{}> Refreshing {}",this.classType,cacheKey);
+        CompletableFuture<E> refresh;
+        try {
+            refresh = dao.getByIdAsync(this.classType,key);
+        }
+        catch (RuntimeException e) {
+            refresh = new CompletableFuture<>();
+            refresh.completeExceptionally(e);
+        }
+        refresh.whenComplete((obj, throwable) -> {
+            if(throwable != null) {
+                log.warn("DatabaseCache <{}> Failed to refresh {}. Cached object kept",this.classType,cacheKey,throwable);
+                load.completeExceptionally(throwable);
             }
             else {
-                this.setCache(key, obj);
-                log.debug("DatabaseCache <{}> Returned {} from DB", this.classType, key);
-                return obj;
+                this.setCache(key, cacheKey, obj);
+                load.complete(obj);
             }
+            inFlightLoads.remove(cacheKey, load);
+        });
+    }
+
+    /**
+     * Wait for a shared load, rethrowing its failure
+     * @param load load to wait on
+     * @param <T> type of the result
+     * @return loaded object
+     */
+    private <T> T join(CompletableFuture<T> load) {
+        try {
+            return load.join();
         }
+        catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new DriverException(e);
+        }
+    }
+
+    /**
+     * Check if an object exists for a key using the cache. Cached not found results are counted as negative hits
+     * @param key Key for cache
+     * @return boolean indicating existence
+     */
+    public boolean exists(E key) {
+        return this.get(key) != null;
     }
 
     /**
-     * Set the cached object of a key
+     * Set the cached object of a key. Replaces any cached not found result.
+     *
+     * With write behind the object is cached immediately and written on the next flush, otherwise it is saved before being cached
      * @param key Name of key
      * @param obj Object to cache
+     * @throws DriverException write behind is full and pending writes could not be flushed within the write behind timeout
      */
     public void set(E key, E obj) {
-        //noinspection unchecked
-        key = (E) key.keys();
-        dao.save(this.classType,obj);
-        this.setCache(key, obj);
+        Object cacheKey = statementFactory.key(key);
+        if(writeBehind) {
+            this.queueWrite(cacheKey, obj);
+        }
+        else {
+            dao.save(this.classType,obj);
+            this.publish(key);
+        }
+        this.setCache(key, cacheKey, obj);
     }
 
     /**
-     * Private function to save an item to the cache
-     * @param key Name of key
-     * @param obj Object to cache
+     * Private function to add a pending write, replacing any pending write of the key. Waits for capacity while the maximum number of keys are pending
+     * @param cacheKey generated key of the entry
+     * @param obj Object to write
      */
-    private void setCache(E key, E obj) {
-        if(obj != null) {
-            log.trace("Setting :"+obj.toString());
+    private void queueWrite(Object cacheKey, E obj) {
+        if(pendingWrites.size() >= writeBehindMaximumPending && !pendingWrites.containsKey(cacheKey)) {
+            this.awaitCapacity(cacheKey);
+        }
+        if(pendingWrites.put(cacheKey, obj) != null) {
+            coalescedWrites.increment();
+        }
+        if(pendingWrites.size() >= writeBehindFlushSize) {
+            this.flushAsync();
         }
-        Long expiration = System.currentTimeMillis() + expirationTime;
-        cacheMap.put(key.toString(), new CacheItem(obj,expiration));
-        log.debug("DatabaseCache <{}> Added {} with key {} and  Expiration {}",this.classType,obj,key,expiration);
     }
 
     /**
-     * Private function to get an item from the cache
-     * @param key name of key
-     * @return Object from cache
+     * Private function to start a flush and wait, up to the write behind timeout, until a chunk of pending writes is written. The caller only waits to be notified
+     * by the flush and never runs or joins it, so a set from a driver thread is bounded by the timeout
+     * @param cacheKey generated key of the entry
+     * @throws DriverException the timeout elapsed or a flush failed while waiting
      */
-    private E getCache(E key) {
-        if ( checkCache(key)) {
-            if(cacheMap.get(key.toString()) != null) {
-                log.trace("Setting : {}",cacheMap.get(key.toString()).toString());
+    private void awaitCapacity(Object cacheKey) {
+        log.debug("DatabaseCache <{}> {} writes pending, waiting on flush",this.classType,pendingWrites.size());
+        long deadline = System.nanoTime() + writeBehindTimeoutNanos;
+        long failures = flushFailures.get();
+        synchronized (capacityLock) {
+            while(pendingWrites.size() >= writeBehindMaximumPending && !pendingWrites.containsKey(cacheKey)) {
+                if(flushFailures.get() != failures) {
+                    throw new DriverException(DriverException.CATEGORIES.APPLICATION_DML_QUERY, String.format("Write behind of %s is full with %d writes pending and the flush failed", this.classType.getSimpleName(), pendingWrites.size()));
+                }
+                long remaining = deadline - System.nanoTime();
+                if(remaining <= 0) {
+                    throw new DriverException(DriverException.CATEGORIES.APPLICATION_DML_QUERY, String.format("Write behind of %s is full with %d writes pending after waiting %d ms", this.classType.getSimpleName(), pendingWrites.size(), TimeUnit.NANOSECONDS.toMillis(writeBehindTimeoutNanos)));
+                }
+                this.flushAsync();
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(capacityLock, remaining);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DriverException(DriverException.CATEGORIES.UNHANDLED_CASQUATCH, "Interrupted waiting on write behind");
+                }
+            }
+        }
+    }
+
+    /**
+     * Write pending writes to the database, waiting for completion
+     * @throws DriverException unable to write, the writes remain pending
+     */
+    public void flush() {
+        join(this.flushAsync());
+    }
+
+    /**
+     * Write pending writes to the database. Flushes run one at a time and a flush requested while one is running is queued behind it.
+     * Writes are made in chunks of the write behind flush size, each grouped by partition into batches, see {@link CasquatchDao#saveAllAsync(Class, Collection)}
+     * @return future completing when the pending writes are written. On failure the writes remain pending
+     */
+    public CompletableFuture<Void> flushAsync() {
+        synchronized (flushLock) {
+            if(!flushQueued) {
+                flushQueued = true;
+                //Started on the write behind thread rather than the thread completing the previous flush, which is a driver thread
+                flushChain = flushChain.handle((v, throwable) -> null).thenComposeAsync(v -> {
+                    synchronized (flushLock) {
+                        flushQueued = false;
+                    }
+                    return this.writePending(pendingWrites.size());
+                }, WRITE_BEHIND_EXECUTOR);
+            }
+            return flushChain;
+        }
+    }
+
+    /**
+     * Private function to write pending writes one chunk at a time, up to the number pending when the flush started so a flush ends under a constant stream of sets.
+     * Writes replaced while in flight remain pending and waiting sets are notified after each chunk
+     * @param remaining number of writes left to flush
+     * @return future completing when written
+     */
+    private CompletableFuture<Void> writePending(long remaining) {
+        if(remaining <= 0 || pendingWrites.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long chunkSize = Math.max(1, Math.min(writeBehindFlushSize, remaining));
+        Map<Object, E> writes = new HashMap<>();
+        for(Map.Entry<Object, E> entry : pendingWrites.entrySet()) {
+            if(writes.size() >= chunkSize) {
+                break;
+            }
+            writes.put(entry.getKey(), entry.getValue());
+        }
+        CompletableFuture<Void> write;
+        try {
+            write = dao.saveAllAsync(this.classType, writes.values());
+        }
+        catch (RuntimeException e) {
+            write = new CompletableFuture<>();
+            write.completeExceptionally(e);
+        }
+        return write.whenComplete((v, throwable) -> {
+            if(throwable != null) {
+                flushFailures.incrementAndGet();
+                log.error("DatabaseCache <{}> Failed to flush {} writes. Writes remain pending",this.classType,writes.size(),throwable);
             }
             else {
-                log.trace("Setting : NULL");
+                for(Map.Entry<Object, E> entry : writes.entrySet()) {
+                    pendingWrites.remove(entry.getKey(), entry.getValue());
+                    this.publish(entry.getValue());
+                }
+                log.debug("DatabaseCache <{}> Flushed {} writes",this.classType,writes.size());
             }
-            return cacheMap.get(key.toString()).getItem();
-        } else {
-            return null;
+            synchronized (capacityLock) {
+                capacityLock.notifyAll();
+            }
+        }).thenComposeAsync(v -> this.writePending(remaining - writes.size()), WRITE_BEHIND_EXECUTOR);
+    }
+
+    /**
+     * Name of the cache on the cache invalidation bus
+     * @return name shared by caches of the same type
+     */
+    private String getCacheName() {
+        return this.classType.getName();
+    }
+
+    /**
+     * Private function to publish a written key to the cache invalidation bus
+     * @param key object with key columns populated
+     */
+    private void publish(E key) {
+        if(cacheInvalidationBus != null) {
+            cacheInvalidationBus.publish(this.getCacheName(), statementFactory.encodeKey(key));
         }
     }
 
     /**
-     * Private function to check if item is in cache
-     * @param key name of key
-     * @return Object from cache
+     * Private function to evict a key published by another member of the cache invalidation bus
+     * @param encodedKey key encoded by {@link AbstractStatementFactory#encodeKey(AbstractCasquatchEntity)}
      */
-    private boolean checkCache(E key) {
-        if ( cacheMap.containsKey(key.toString())) {
-            if (cacheMap.get(key.toString()).getExpiration() >  System.currentTimeMillis()) {
-                log.debug("DatabaseCache <{}> Hit: {}",this.classType,key);
-                return true;
+    private void invalidate(ByteBuffer encodedKey) {
+        Object cacheKey = statementFactory.key(statementFactory.decode(encodedKey));
+        //Invalidated on heap first so an eviction of the key has already moved it off heap
+        cache.invalidate(cacheKey);
+        if(offHeapStore != null) {
+            offHeapStore.invalidate(encodedKey);
+        }
+        invalidations.increment();
+        log.debug("DatabaseCache <{}> Invalidated key {}",this.classType,cacheKey);
+    }
+
+    /**
+     * Private function to save an item to the cache. Null objects are cached as not found when negative caching is enabled, otherwise the entry is removed
+     * @param key Key for cache
+     * @param cacheKey generated key of the entry
+     * @param obj Object to cache
+     */
+    private void setCache(E key, Object cacheKey, E obj) {
+        if(obj == null) {
+            if(negativeCaching) {
+                cache.put(cacheKey, new CacheItem<>(null, System.nanoTime()));
+                log.debug("DatabaseCache <{}> Added not found for key {}",this.classType,cacheKey);
             }
             else {
-                log.debug("DatabaseCache <{}> Miss(Expired): {}",this.classType,key);
-                return false;
-            }
-        } else {
-            log.debug("DatabaseCache <{}> Miss: {}",this.classType,key);
-            if(log.isTraceEnabled()) {
-                log.trace("The following {} keys are in the cache",cacheMap.size());
-                for(Map.Entry<String,CacheItem> entry : cacheMap.entrySet()) {
-                    log.trace(entry.toString());
+                cache.invalidate(cacheKey);
+            }
+        }
+        else {
+            cache.put(cacheKey, new CacheItem<>(obj, System.nanoTime()));
+            log.debug("DatabaseCache <{}> Added {} with key {}",this.classType,obj,cacheKey);
+        }
+        //Removed off heap after the heap is updated so an eviction of the previous entry has already moved it off heap
+        if(offHeapStore != null) {
+            offHeapStore.invalidate(statementFactory.encodeKey(key));
+        }
+    }
+
+    /**
+     * Approximate number of objects in the cache
+     * @return number of cached objects
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Approximate number of objects in the off heap store
+     * @return number of objects cached off heap
+     */
+    public long offHeapSize() {
+        cache.cleanUp();
+        return offHeapStore != null ? offHeapStore.size() : 0;
+    }
+
+    /**
+     * Get the counters of the cache. Coalesced loads are misses which waited on another caller's load rather than querying the database.
+     * Stale hits are expired objects returned while a refresh was in flight and negative hits are cached not found results.
+     * Off heap hits are objects moved back to the heap on read and are also counted as hits or stale hits. Coalesced writes are write behind sets which replaced a pending write.
+     * Invalidations are keys evicted after being written in another JVM
+     * @return point in time statistics
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hits.sum(),staleHits.sum(),negativeHits.sum(),offHeapHits.sum(),misses.sum(),loads.sum(),coalescedLoads.sum(),refreshes.sum(),coalescedWrites.sum(),invalidations.sum(),cache.estimatedSize(),offHeapStore != null ? offHeapStore.size() : 0,pendingWrites.size());
+    }
+
+    /**
+     * Write the cache to its snapshot, replacing any previous snapshot. Objects on the heap are written hottest first followed by objects off heap.
+     * Cached not found results are not written
+     * @return number of objects written
+     * @throws DriverException unable to write the snapshot
+     */
+    public long snapshot() {
+        if(snapshotFile == null) {
+            throw new DriverException(DriverException.CATEGORIES.CASQUATCH_INVALID_CONFIGURATION, "Snapshot directory not configured");
+        }
+        long start = System.nanoTime();
+        CacheSnapshot snapshot;
+        try {
+            snapshot = new CacheSnapshot(snapshotFile, statementFactory.getColumns());
+        }
+        catch (IOException e) {
+            throw new DriverException(e);
+        }
+        try {
+            long count = 0;
+            Map<Object, CacheItem<E>> items = cache.policy().eviction().map(eviction -> eviction.hottest(Integer.MAX_VALUE)).orElse(cache.asMap());
+            for(CacheItem<E> cacheItem : items.values()) {
+                if(cacheItem.getItem() != null) {
+                    ByteBuffer encoded = statementFactory.encode(cacheItem.getItem(), ByteBuffer::allocate);
+                    encoded.flip();
+                    snapshot.append(start - cacheItem.getWritten(), encoded);
+                    count++;
                 }
             }
-            return false;
+            if(offHeapStore != null) {
+                AtomicLong offHeap = new AtomicLong();
+                offHeapStore.forEach((written, encoded) -> {
+                    snapshot.append(start - written, encoded);
+                    offHeap.incrementAndGet();
+                });
+                count += offHeap.get();
+            }
+            snapshot.commit();
+            log.info("DatabaseCache <{}> Wrote {} objects to {} in {}ms",this.classType,count,snapshotFile,Duration.ofNanos(System.nanoTime()-start).toMillis());
+            return count;
+        }
+        catch (IOException e) {
+            snapshot.abort();
+            throw new DriverException(e);
+        }
+        catch (RuntimeException e) {
+            snapshot.abort();
+            throw e;
         }
     }
 
+    /**
+     * Private function to load the snapshot of the cache. Objects are restored with their age adjusted for the time since the snapshot and objects past retention are skipped.
+     * The hottest objects are placed on the heap and the remainder off heap
+     */
+    private void restore() {
+        if(!Files.exists(snapshotFile)) {
+            return;
+        }
+        long start = System.nanoTime();
+        AtomicLong onHeap = new AtomicLong();
+        AtomicLong offHeap = new AtomicLong();
+        try {
+            long read = CacheSnapshot.read(snapshotFile, statementFactory.getColumns(), (ageNanos, encoded) -> {
+                if(ageNanos >= retentionNanos || (onHeap.get() >= maximumSize && offHeapStore == null)) {
+                    return;
+                }
+                long written = System.nanoTime() - ageNanos;
+                if(onHeap.get() < maximumSize) {
+                    E obj = statementFactory.decode(encoded);
+                    cache.put(statementFactory.key(obj), new CacheItem<>(obj, written));
+                    onHeap.incrementAndGet();
+                }
+                else {
+                    offHeapStore.put(written, encoded);
+                    offHeap.incrementAndGet();
+                }
+            });
+            log.info("DatabaseCache <{}> Restored {} of {} objects from {} in {}ms",this.classType,onHeap.get()+offHeap.get(),read,snapshotFile,Duration.ofNanos(System.nanoTime()-start).toMillis());
+        }
+        catch (IOException | RuntimeException e) {
+            log.warn("DatabaseCache <{}> Unable to restore snapshot {}",this.classType,snapshotFile,e);
+        }
+    }
+
+    /**
+     * Close the cache. With write behind pending writes are flushed and with a snapshot directory the cache is written to its snapshot.
+     * With invalidation the cache unsubscribes from the cache invalidation bus
+     */
+    @Override
+    public void close() {
+        if(snapshotFile != null || writeBehind || cacheInvalidationBus != null) {
+            dao.unregisterCache(this);
+        }
+        if(writeBehind) {
+            writeBehindTask.cancel(false);
+            try {
+                this.flush();
+            }
+            catch (RuntimeException e) {
+                log.error("DatabaseCache <{}> Unable to flush {} pending writes on close",this.classType,pendingWrites.size(),e);
+            }
+        }
+        if(cacheInvalidationBus != null) {
+            cacheInvalidationBus.unsubscribe(this.getCacheName(), invalidationListener);
+        }
+        if(snapshotFile != null) {
+            try {
+                this.snapshot();
+            }
+            catch (DriverException e) {
+                log.error("DatabaseCache <{}> Unable to write snapshot {}",this.classType,snapshotFile,e);
+            }
+        }
+        this.clearCache();
+    }
 
     /**
      * Clear the cache
      */
     public void clearCache() {
-        this.cacheMap.clear();
+        this.cache.invalidateAll();
+        if(this.offHeapStore != null) {
+            this.offHeapStore.invalidateAll();
+        }
     }
 }
-
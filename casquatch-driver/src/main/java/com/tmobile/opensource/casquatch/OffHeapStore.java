@@ -0,0 +1,428 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Byte bounded store of encoded objects held in a few large direct memory slabs.
+ *
+ * The store is split into segments, each with its own lock, slabs and index. Objects are appended to the current slab of their segment
+ * and once every slab is full the oldest slab is reclaimed, dropping the objects still held in it. The index maps a 64 bit hash of the encoded key
+ * to the slab and offset of the object in two primitive arrays, so no heap object is held per stored object.
+ *
+ * Objects are encoded by {@link AbstractStatementFactory#encode(AbstractCasquatchEntity, java.util.function.IntFunction)} which starts with the key columns,
+ * so the encoded key of an object is a prefix of the encoded object and is compared against it on lookup.
+ * Each record holds the hash, the nanoTime the object was written, the length and the encoded object.
+ */
+class OffHeapStore {
+
+    /**
+     * Number of bytes ahead of the encoded object in buffers returned by {@link OffHeapStore#remove(ByteBuffer)}
+     */
+    static final int HEADER_BYTES = 8;
+
+    /**
+     * Number of bytes ahead of the encoded object in a slab
+     */
+    private static final int RECORD_HEADER_BYTES = 20;
+
+    /**
+     * Stores smaller than this are held in a single segment
+     */
+    private static final long MIN_SEGMENTED_SIZE = 16*1024*1024;
+    private static final int SEGMENTS = 16;
+    private static final int SLABS_PER_SEGMENT = 8;
+    private static final long MIN_SLAB_BYTES = 64*1024;
+    private static final long MAX_SLAB_BYTES = 1024*1024*1024;
+
+    /**
+     * Callback for each object in the store
+     */
+    interface EntryConsumer {
+        /**
+         * Accept an object
+         * @param written nanoTime the object was written
+         * @param encoded binary encoding of the object, valid only for the duration of the call
+         * @throws IOException unable to process the object
+         */
+        void accept(long written, ByteBuffer encoded) throws IOException;
+    }
+
+    private final Segment[] segments;
+    private final int keyColumnCount;
+    private final long retentionNanos;
+
+    /**
+     * Initializes the store. Slabs are allocated on first use
+     * @param maximumSize maximum number of bytes to hold, including record headers
+     * @param keyColumnCount number of key columns at the start of each encoded object
+     * @param retentionNanos time after write an object is no longer returned
+     */
+    OffHeapStore(long maximumSize, int keyColumnCount, long retentionNanos) {
+        this.keyColumnCount = keyColumnCount;
+        this.retentionNanos = retentionNanos;
+        int segmentCount = maximumSize >= MIN_SEGMENTED_SIZE ? SEGMENTS : 1;
+        long segmentBytes = maximumSize / segmentCount;
+        int slabCount = (int) Math.max(Math.min(segmentBytes / MIN_SLAB_BYTES, SLABS_PER_SEGMENT), (segmentBytes + MAX_SLAB_BYTES - 1) / MAX_SLAB_BYTES);
+        slabCount = Math.max(slabCount, 1);
+        int slabBytes = (int) (segmentBytes / slabCount);
+        this.segments = new Segment[segmentCount];
+        for(int i=0;i<segmentCount;i++) {
+            segments[i] = new Segment(slabCount, slabBytes);
+        }
+    }
+
+    /**
+     * Get the nanoTime an object was written
+     * @param buffer buffer returned by {@link OffHeapStore#remove(ByteBuffer)}
+     * @return nanoTime of the write
+     */
+    static long getWritten(ByteBuffer buffer) {
+        return buffer.getLong(0);
+    }
+
+    /**
+     * Get the encoded object of a buffer
+     * @param buffer buffer returned by {@link OffHeapStore#remove(ByteBuffer)}
+     * @return view of the buffer positioned at the encoded object
+     */
+    static ByteBuffer getEncoded(ByteBuffer buffer) {
+        ByteBuffer encoded = buffer.duplicate();
+        encoded.position(HEADER_BYTES);
+        return encoded;
+    }
+
+    /**
+     * Add an object to the store, replacing any object with the same key. Objects larger than a slab are not stored
+     * @param written nanoTime the object was written
+     * @param encoded buffer positioned at the encoded object. The position of the buffer is not modified
+     */
+    void put(long written, ByteBuffer encoded) {
+        long hash = hash(encoded, encoded.position(), keyLength(encoded));
+        segment(hash).put(hash, written, encoded);
+    }
+
+    /**
+     * Remove an object from the store
+     * @param encodedKey key encoded by {@link AbstractStatementFactory#encodeKey(AbstractCasquatchEntity)}
+     * @return heap buffer with the nanoTime the object was written followed by the encoded object or null if not present or past retention
+     */
+    ByteBuffer remove(ByteBuffer encodedKey) {
+        long hash = hash(encodedKey, encodedKey.position(), encodedKey.remaining());
+        return segment(hash).remove(hash, encodedKey);
+    }
+
+    /**
+     * Remove a key from the store
+     * @param encodedKey key encoded by {@link AbstractStatementFactory#encodeKey(AbstractCasquatchEntity)}
+     */
+    void invalidate(ByteBuffer encodedKey) {
+        long hash = hash(encodedKey, encodedKey.position(), encodedKey.remaining());
+        segment(hash).invalidate(hash, encodedKey);
+    }
+
+    /**
+     * Remove all keys from the store. Slabs are kept for reuse
+     */
+    void invalidateAll() {
+        for(Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Pass each object within retention to a consumer, oldest first within each segment. Each segment is locked while its objects are consumed
+     * @param consumer consumer of the objects
+     * @throws IOException thrown by the consumer
+     */
+    void forEach(EntryConsumer consumer) throws IOException {
+        for(Segment segment : segments) {
+            segment.forEach(consumer);
+        }
+    }
+
+    /**
+     * Approximate number of objects in the store. Objects past retention are counted until their slab is reclaimed
+     * @return number of objects
+     */
+    long size() {
+        long size = 0;
+        for(Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Private function to find the segment of a hash
+     * @param hash hash of the encoded key
+     * @return segment holding the key
+     */
+    private Segment segment(long hash) {
+        return segments[(int) (hash >>> 32) & (segments.length - 1)];
+    }
+
+    /**
+     * Private function to find the length of the key columns at the start of an encoded object
+     * @param encoded buffer positioned at the encoded object
+     * @return number of bytes of the encoded key
+     */
+    private int keyLength(ByteBuffer encoded) {
+        int offset = encoded.position();
+        for(int i=0;i<keyColumnCount && offset<encoded.limit();i++) {
+            offset += 4 + Math.max(encoded.getInt(offset), 0);
+        }
+        return offset - encoded.position();
+    }
+
+    /**
+     * Private function to hash bytes with FNV-1a followed by the MurmurHash3 finalizer. Zero is reserved for empty slots of the index
+     * @param buffer buffer holding the bytes
+     * @param offset absolute offset of the first byte
+     * @param length number of bytes
+     * @return non zero hash
+     */
+    private static long hash(ByteBuffer buffer, int offset, int length) {
+        long hash = 0xcbf29ce484222325L;
+        for(int i=offset;i<offset+length;i++) {
+            hash ^= buffer.get(i) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Ring of slabs and the open addressing index of the records they hold
+     */
+    private class Segment {
+        private final ByteBuffer[] slabs;
+        private final int[] slabEnds;
+        private final int slabBytes;
+        private int head = 0;
+        private long[] hashes = new long[16];
+        private long[] locations = new long[16];
+        private int count = 0;
+
+        private Segment(int slabCount, int slabBytes) {
+            this.slabs = new ByteBuffer[slabCount];
+            this.slabEnds = new int[slabCount];
+            this.slabBytes = slabBytes;
+        }
+
+        private synchronized void put(long hash, long written, ByteBuffer encoded) {
+            int recordBytes = RECORD_HEADER_BYTES + encoded.remaining();
+            if(recordBytes > slabBytes) {
+                return;
+            }
+            if(slabEnds[head] + recordBytes > slabBytes) {
+                head = (head + 1) % slabs.length;
+                reclaim(head);
+            }
+            if(slabs[head] == null) {
+                slabs[head] = ByteBuffer.allocateDirect(slabBytes);
+            }
+            ByteBuffer slab = slabs[head];
+            int offset = slabEnds[head];
+            slab.putLong(offset, hash);
+            slab.putLong(offset + 8, written);
+            slab.putInt(offset + 16, encoded.remaining());
+            ByteBuffer target = slab.duplicate();
+            target.position(offset + RECORD_HEADER_BYTES);
+            target.put(encoded.duplicate());
+            slabEnds[head] = offset + recordBytes;
+
+            long location = ((long) head << 32) | offset;
+            int slot = find(hash);
+            if(slot >= 0) {
+                locations[slot] = location;
+            }
+            else {
+                if((count + 1) * 4L > hashes.length * 3L) {
+                    resize();
+                }
+                insert(hash, location);
+                count++;
+            }
+        }
+
+        private synchronized ByteBuffer remove(long hash, ByteBuffer encodedKey) {
+            int slot = findKey(hash, encodedKey);
+            if(slot < 0) {
+                return null;
+            }
+            ByteBuffer slab = slabs[(int) (locations[slot] >>> 32)];
+            int offset = (int) locations[slot];
+            long written = slab.getLong(offset + 8);
+            removeSlot(slot);
+            if(System.nanoTime() - written >= retentionNanos) {
+                return null;
+            }
+            ByteBuffer source = slab.duplicate();
+            source.limit(offset + RECORD_HEADER_BYTES + slab.getInt(offset + 16));
+            source.position(offset + RECORD_HEADER_BYTES);
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + source.remaining());
+            buffer.putLong(written);
+            buffer.put(source);
+            buffer.flip();
+            return buffer;
+        }
+
+        private synchronized void invalidate(long hash, ByteBuffer encodedKey) {
+            int slot = findKey(hash, encodedKey);
+            if(slot >= 0) {
+                removeSlot(slot);
+            }
+        }
+
+        private synchronized void clear() {
+            Arrays.fill(hashes, 0);
+            Arrays.fill(locations, 0);
+            Arrays.fill(slabEnds, 0);
+            count = 0;
+            head = 0;
+        }
+
+        private synchronized long size() {
+            return count;
+        }
+
+        private synchronized void forEach(EntryConsumer consumer) throws IOException {
+            long now = System.nanoTime();
+            for(int i=1;i<=slabs.length;i++) {
+                int slabIndex = (head + i) % slabs.length;
+                ByteBuffer slab = slabs[slabIndex];
+                for(int offset=0;offset<slabEnds[slabIndex];offset+=RECORD_HEADER_BYTES + slab.getInt(offset + 16)) {
+                    long written = slab.getLong(offset + 8);
+                    if(isLive(slab.getLong(offset), ((long) slabIndex << 32) | offset) && now - written < retentionNanos) {
+                        ByteBuffer encoded = slab.duplicate();
+                        encoded.limit(offset + RECORD_HEADER_BYTES + slab.getInt(offset + 16));
+                        encoded.position(offset + RECORD_HEADER_BYTES);
+                        consumer.accept(written, encoded);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Drop the records of a slab from the index so the slab can be reused
+         * @param slabIndex slab to reclaim
+         */
+        private void reclaim(int slabIndex) {
+            ByteBuffer slab = slabs[slabIndex];
+            for(int offset=0;offset<slabEnds[slabIndex];offset+=RECORD_HEADER_BYTES + slab.getInt(offset + 16)) {
+                int slot = find(slab.getLong(offset));
+                if(slot >= 0 && locations[slot] == (((long) slabIndex << 32) | offset)) {
+                    removeSlot(slot);
+                }
+            }
+            slabEnds[slabIndex] = 0;
+        }
+
+        /**
+         * Check if the index still points at a record
+         * @param hash hash of the record
+         * @param location slab and offset of the record
+         * @return true if the record is the current object of its key
+         */
+        private boolean isLive(long hash, long location) {
+            int slot = find(hash);
+            return slot >= 0 && locations[slot] == location;
+        }
+
+        /**
+         * Find the slot of a hash whose record starts with the encoded key
+         * @param hash hash of the encoded key
+         * @param encodedKey encoded key
+         * @return slot or -1 if not present
+         */
+        private int findKey(long hash, ByteBuffer encodedKey) {
+            int slot = find(hash);
+            if(slot < 0) {
+                return -1;
+            }
+            ByteBuffer slab = slabs[(int) (locations[slot] >>> 32)];
+            int offset = (int) locations[slot];
+            if(slab.getInt(offset + 16) < encodedKey.remaining()) {
+                return -1;
+            }
+            ByteBuffer recordKey = slab.duplicate();
+            recordKey.limit(offset + RECORD_HEADER_BYTES + encodedKey.remaining());
+            recordKey.position(offset + RECORD_HEADER_BYTES);
+            return recordKey.equals(encodedKey) ? slot : -1;
+        }
+
+        private int find(long hash) {
+            int mask = hashes.length - 1;
+            for(int slot=(int) hash & mask;hashes[slot]!=0;slot=(slot + 1) & mask) {
+                if(hashes[slot] == hash) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private void insert(long hash, long location) {
+            int mask = hashes.length - 1;
+            int slot = (int) hash & mask;
+            while(hashes[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = hash;
+            locations[slot] = location;
+        }
+
+        private void resize() {
+            long[] oldHashes = hashes;
+            long[] oldLocations = locations;
+            hashes = new long[oldHashes.length * 2];
+            locations = new long[oldLocations.length * 2];
+            for(int i=0;i<oldHashes.length;i++) {
+                if(oldHashes[i] != 0) {
+                    insert(oldHashes[i], oldLocations[i]);
+                }
+            }
+        }
+
+        /**
+         * Empty a slot, shifting back later entries of the probe sequence so lookups need no tombstones
+         * @param slot slot to empty
+         */
+        private void removeSlot(int slot) {
+            int mask = hashes.length - 1;
+            int hole = slot;
+            for(int next=(hole + 1) & mask;hashes[next]!=0;next=(next + 1) & mask) {
+                int ideal = (int) hashes[next] & mask;
+                if(((next - ideal) & mask) >= ((next - hole) & mask)) {
+                    hashes[hole] = hashes[next];
+                    locations[hole] = locations[next];
+                    hole = next;
+                }
+            }
+            hashes[hole] = 0;
+            locations[hole] = 0;
+            count--;
+        }
+    }
+}
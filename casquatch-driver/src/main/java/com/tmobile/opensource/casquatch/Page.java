@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Single page of results along with the paging state to request the next page.
+ *
+ * The paging state is an opaque URL safe string. It holds no server side state so may be passed to another instance or stored between calls.
+ * @param <E> Entity Object for results
+ */
+@Getter
+public class Page<E> {
+
+    private List<E> items = new ArrayList<>();
+    private String pagingState;
+
+    /**
+     * No Args Constructor
+     */
+    public Page() {
+
+    }
+
+    /**
+     * Construct a page of results
+     * @param items populated objects of the page
+     * @param pagingState paging state of the next page or null if this is the last page
+     */
+    public Page(List<E> items, String pagingState) {
+        this.items = items;
+        this.pagingState = pagingState;
+    }
+
+    /**
+     * Check if a further page can be requested
+     * @return true if the paging state is set
+     */
+    public boolean hasMorePages() {
+        return this.pagingState != null;
+    }
+
+    /**
+     * Encode a driver paging state as an opaque string
+     * @param pagingState driver paging state
+     * @return encoded paging state or null if there are no more pages
+     */
+    static String encodePagingState(ByteBuffer pagingState) {
+        if(pagingState==null) {
+            return null;
+        }
+        byte[] bytes = new byte[pagingState.remaining()];
+        pagingState.duplicate().get(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Decode a paging state produced by {@link Page#encodePagingState(ByteBuffer)}
+     * @param pagingState encoded paging state
+     * @return driver paging state or null if no paging state is provided
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    static ByteBuffer decodePagingState(String pagingState) throws DriverException {
+        if(pagingState==null || pagingState.isEmpty()) {
+            return null;
+        }
+        try {
+            return ByteBuffer.wrap(Base64.getUrlDecoder().decode(pagingState));
+        }
+        catch (IllegalArgumentException e) {
+            throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Invalid paging state");
+        }
+    }
+}
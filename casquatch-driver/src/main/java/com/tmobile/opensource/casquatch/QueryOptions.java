@@ -19,7 +19,6 @@ package com.tmobile.opensource.casquatch;
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigValue;
 import lombok.Getter;
@@ -85,7 +84,7 @@ public class QueryOptions {
      */
     public String toString() {
         try {
-            return new ObjectMapper().writeValueAsString(this);
+            return CasquatchObjectMapper.getObjectMapper().writeValueAsString(this);
         } catch (JsonProcessingException e) {
             return "Unable to convert to JSON";
         }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValue;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+
+/**
+ * Object for holding full table scan options.
+ */
+@Slf4j
+public class ScanOptions {
+    @Getter private Integer concurrency=8;
+    private String consistency;
+    @Getter private String profile;
+    @Getter private Long splitSize=100000L;
+
+    /**
+     * No Args Constructor
+     */
+    public ScanOptions() {
+
+    }
+
+    /**
+     * Create ScanOptions from Config object. Used on CasquatchDao initialization
+     * @param config populated config object
+     */
+    ScanOptions(Config config) {
+        if(log.isTraceEnabled()) {
+            log.trace("Creating Scan Options From Config");
+            for (Map.Entry<String, ConfigValue> entry : config.entrySet()) {
+                log.debug("{}: {} -> {}","Scan Options",entry.getKey(),entry.getValue().render());
+            }
+        }
+        if(config.hasPath("concurrency")) this.concurrency=config.getInt("concurrency");
+        if(config.hasPath("consistency")) this.consistency=config.getString("consistency");
+        if(config.hasPath("profile")) this.profile=config.getString("profile");
+        if(config.hasPath("split-size")) this.splitSize=config.getLong("split-size");
+    }
+
+    /**
+     * Create ScanOptions from other ScanOptions.
+     * @param scanOptions populated ScanOptions object
+     */
+    private ScanOptions(ScanOptions scanOptions) {
+        this.concurrency=scanOptions.concurrency;
+        this.consistency=scanOptions.consistency;
+        this.profile=scanOptions.profile;
+        this.splitSize=scanOptions.splitSize;
+    }
+
+    /**
+     * Convert to string
+     * @return string representation
+     */
+    public String toString() {
+        return String.format("ScanOptions(concurrency=%d, consistency=%s, profile=%s, splitSize=%d)",this.concurrency,this.consistency,this.profile,this.splitSize);
+    }
+
+    /**
+     * Scan Consistency Level as Object
+     * @return object of consistencyLevel
+     */
+    public ConsistencyLevel getConsistencyLevel() {
+        if(this.consistency!=null) {
+            return DefaultConsistencyLevel.valueOf(this.consistency);
+        }
+        return null;
+    }
+
+    /**
+     * Get the query options applied to each token range statement
+     * @return query options with consistency and profile set
+     */
+    QueryOptions toQueryOptions() {
+        QueryOptions queryOptions = new QueryOptions();
+        if(this.consistency!=null) queryOptions=queryOptions.withConsistencyLevel(this.consistency);
+        if(this.profile!=null) queryOptions=queryOptions.withProfile(this.profile);
+        return queryOptions;
+    }
+
+    /**
+     * Set concurrency
+     * @param concurrency maximum number of token ranges read at once
+     * @return scan options with value set
+     */
+    public ScanOptions withConcurrency(Integer concurrency) {
+        ScanOptions scanOptions = new ScanOptions(this);
+        scanOptions.concurrency=concurrency;
+        return scanOptions;
+    }
+
+    /**
+     * Set consistency level
+     * @param consistencyLevel consistency level of each token range statement
+     * @return scan options with value set
+     */
+    public ScanOptions withConsistencyLevel(String consistencyLevel) {
+        ScanOptions scanOptions = new ScanOptions(this);
+        scanOptions.consistency=consistencyLevel;
+        return scanOptions;
+    }
+
+    /**
+     * Set execution profile
+     * @param profile execution profile of each token range statement
+     * @return scan options with value set
+     */
+    public ScanOptions withProfile(String profile) {
+        ScanOptions scanOptions = new ScanOptions(this);
+        scanOptions.profile=profile;
+        return scanOptions;
+    }
+
+    /**
+     * Set split size
+     * @param splitSize estimated number of partitions per token range
+     * @return scan options with value set
+     */
+    public ScanOptions withSplitSize(Long splitSize) {
+        ScanOptions scanOptions = new ScanOptions(this);
+        scanOptions.splitSize=splitSize;
+        return scanOptions;
+    }
+}
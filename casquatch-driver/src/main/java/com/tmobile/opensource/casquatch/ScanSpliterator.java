@@ -0,0 +1,261 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the pages of token range statements read asynchronously.
+ *
+ * Each range adds one page at a time. The next page of a range is only fetched once its previous page is taken by a consumer,
+ * so no driver thread is blocked and at most two pages per range are held in memory.
+ * The spliterator splits up to the given parallelism, with every split taking whole pages from the same queue. Waits on the queue are managed so a fork join pool may compensate for blocked workers.
+ * Once closed queued pages are dropped and pages read afterwards are discarded, completing their ranges without fetching further pages.
+ * @param <E> Entity Object for results
+ */
+class ScanSpliterator<E extends AbstractCasquatchEntity> implements Spliterator<E> {
+
+    private static final Object END = new Object();
+
+    /**
+     * Page of a range along with the fetch of the following page
+     */
+    private static class RangePage<E> {
+        private final List<E> items;
+        private final Runnable fetchNext;
+
+        private RangePage(List<E> items, Runnable fetchNext) {
+            this.items = items;
+            this.fetchNext = fetchNext;
+        }
+    }
+
+    private final BlockingQueue<Object> queue;
+    private final AbstractStatementFactory<E> statementFactory;
+    private final AtomicInteger splits;
+    private final AtomicBoolean closed;
+    private Iterator<E> current = Collections.emptyIterator();
+    private boolean finished = false;
+
+    /**
+     * Create a spliterator mapping rows with a statement factory
+     * @param statementFactory statement factory to map rows
+     * @param parallelism maximum number of spliterators consuming pages, including this one
+     */
+    ScanSpliterator(AbstractStatementFactory<E> statementFactory, int parallelism) {
+        this.queue = new LinkedBlockingQueue<>();
+        this.statementFactory = statementFactory;
+        this.splits = new AtomicInteger(Math.max(0, parallelism - 1));
+        this.closed = new AtomicBoolean();
+    }
+
+    /**
+     * Create a split sharing the queue of a spliterator
+     * @param parent spliterator being split
+     */
+    private ScanSpliterator(ScanSpliterator<E> parent) {
+        this.queue = parent.queue;
+        this.statementFactory = parent.statementFactory;
+        this.splits = parent.splits;
+        this.closed = parent.closed;
+    }
+
+    /**
+     * Add the pages of a range starting with the first page
+     * @param asyncResultSet first page of the range
+     * @return CompletableFuture which completes once the last page of the range is added
+     */
+    CompletableFuture<Void> addRange(AsyncResultSet asyncResultSet) {
+        CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+        this.addPage(asyncResultSet, completableFuture);
+        return completableFuture;
+    }
+
+    /**
+     * End the spliterator once every range is added
+     * @param throwable failure of any range or null if all ranges were read
+     */
+    void complete(Throwable throwable) {
+        if(!closed.get()) {
+            queue.add(throwable != null ? throwable : END);
+        }
+    }
+
+    /**
+     * Stop the spliterator and every split. Queued pages are dropped and consumers waiting on a page are released
+     */
+    void close() {
+        if(closed.compareAndSet(false, true)) {
+            queue.clear();
+            queue.add(END);
+        }
+    }
+
+    /**
+     * Map and add a page, deferring the fetch of the next page until this page is taken
+     * @param asyncResultSet current page of results
+     * @param completableFuture future to complete once the last page is added
+     */
+    private void addPage(AsyncResultSet asyncResultSet, CompletableFuture<Void> completableFuture) {
+        if(closed.get()) {
+            completableFuture.complete(null);
+            return;
+        }
+        List<E> items = new ArrayList<>(asyncResultSet.remaining());
+        try {
+            for(Row row : asyncResultSet.currentPage()) {
+                items.add(statementFactory.map(row));
+            }
+        }
+        catch (RuntimeException e) {
+            completableFuture.completeExceptionally(e);
+            return;
+        }
+        RangePage<E> page;
+        if(asyncResultSet.hasMorePages()) {
+            page = new RangePage<>(items, () -> asyncResultSet.fetchNextPage().whenComplete((next, throwable) -> {
+                if(throwable != null) {
+                    completableFuture.completeExceptionally(throwable);
+                }
+                else {
+                    this.addPage(next, completableFuture);
+                }
+            }));
+        }
+        else {
+            page = new RangePage<>(items, null);
+        }
+        queue.add(page);
+        //Closed while the page was mapped
+        if(closed.get()) {
+            queue.remove(page);
+        }
+        //Completed once the last page is queued so the end of the scan is queued after it
+        if(page.fetchNext == null) {
+            completableFuture.complete(null);
+        }
+    }
+
+    /**
+     * Take the next page, waiting for it to be read. The end of the scan and failures are returned to the queue for the other splits
+     * @return items of the page or null once every range is read
+     * @throws DriverException - Driver exception mapped to error code
+     */
+    @SuppressWarnings("unchecked")
+    private List<E> takePage() throws DriverException {
+        if(finished || closed.get()) {
+            return null;
+        }
+        Object next;
+        try {
+            next = this.take();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DriverException(DriverException.CATEGORIES.UNHANDLED_CASQUATCH, "Interrupted waiting on scan");
+        }
+        if(next == END) {
+            finished = true;
+            queue.add(END);
+            return null;
+        }
+        if(next instanceof Throwable) {
+            finished = true;
+            queue.add(next);
+            Throwable cause = (next instanceof CompletionException && ((Throwable) next).getCause() != null) ? ((Throwable) next).getCause() : (Throwable) next;
+            if(cause instanceof DriverException) {
+                throw (DriverException) cause;
+            }
+            throw new DriverException(cause instanceof Exception ? (Exception) cause : new RuntimeException(cause));
+        }
+        RangePage<E> page = (RangePage<E>) next;
+        if(page.fetchNext != null) {
+            page.fetchNext.run();
+        }
+        return page.items;
+    }
+
+    /**
+     * Take the next element of the queue as a managed block
+     * @return page, end of scan or failure
+     * @throws InterruptedException interrupted while waiting
+     */
+    private Object take() throws InterruptedException {
+        Object[] next = new Object[1];
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            @Override
+            public boolean block() throws InterruptedException {
+                if(next[0] == null) {
+                    next[0] = queue.take();
+                }
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return next[0] != null || (next[0] = queue.poll()) != null;
+            }
+        });
+        return next[0];
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        while(!current.hasNext()) {
+            List<E> page = this.takePage();
+            if(page == null) {
+                return false;
+            }
+            current = page.iterator();
+        }
+        action.accept(current.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        if(closed.get() || splits.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) == 0) {
+            return null;
+        }
+        return new ScanSpliterator<>(this);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+}
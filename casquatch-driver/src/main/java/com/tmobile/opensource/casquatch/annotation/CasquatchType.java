@@ -28,7 +28,7 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.CLASS)
 public @interface CasquatchType {
     /**
-     * Triggers the generation of the Type Factory to implement {@link com.tmobile.opensource.casquatch.AbstractTypeFactory}
+     * Triggers the generation of the Type Codec to implement {@link com.tmobile.opensource.casquatch.AbstractTypeCodec}
      * @return boolean indicator
      */
     boolean generateFactory() default true;
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.tmobile.opensource.casquatch.models;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.tmobile.opensource.casquatch.AbstractCasquatchEntity;
+import com.tmobile.opensource.casquatch.AbstractStatementFactory;
+import com.tmobile.opensource.casquatch.CasquatchEntityRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Entity registry for models packaged with the driver
+ */
+public class Casquatch_EntityRegistry implements CasquatchEntityRegistry {
+
+    private static final Map<Class<? extends AbstractCasquatchEntity>, Function<CqlSession, AbstractStatementFactory<?>>> STATEMENT_FACTORIES = new LinkedHashMap<>();
+
+    static {
+        STATEMENT_FACTORIES.put(NodeMetaData.class, NodeMetaData_StatementFactory::new);
+    }
+
+    @Override
+    public Map<Class<? extends AbstractCasquatchEntity>, Function<CqlSession, AbstractStatementFactory<?>>> getStatementFactories() {
+        return STATEMENT_FACTORIES;
+    }
+}
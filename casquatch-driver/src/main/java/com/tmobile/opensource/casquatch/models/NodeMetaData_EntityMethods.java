@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tmobile.opensource.casquatch.models;
+
+import com.tmobile.opensource.casquatch.CasquatchEntityMethods;
+import com.tmobile.opensource.casquatch.CasquatchObjectMapper;
+
+import java.util.Objects;
+
+/**
+ * Generated: Reflection free equals, hashCode, toString and keys of NodeMetaData
+ */
+public final class NodeMetaData_EntityMethods implements CasquatchEntityMethods<NodeMetaData> {
+
+    @Override
+    public boolean equals(NodeMetaData obj, NodeMetaData other) {
+        return Objects.equals(obj.getKey(), other.getKey()) &&
+                Objects.equals(obj.getClusterName(), other.getClusterName()) &&
+                Objects.equals(obj.getRack(), other.getRack()) &&
+                Objects.equals(obj.getTruncatedAt(), other.getTruncatedAt()) &&
+                Objects.equals(obj.getCqlVersion(), other.getCqlVersion()) &&
+                Objects.equals(obj.getWorkloads(), other.getWorkloads()) &&
+                Objects.equals(obj.getWorkload(), other.getWorkload()) &&
+                Objects.equals(obj.getDataCenter(), other.getDataCenter()) &&
+                Objects.equals(obj.getServerId(), other.getServerId()) &&
+                Objects.equals(obj.getRpcAddress(), other.getRpcAddress()) &&
+                Objects.equals(obj.getBroadcastAddress(), other.getBroadcastAddress()) &&
+                Objects.equals(obj.getGraph(), other.getGraph()) &&
+                Objects.equals(obj.getHostId(), other.getHostId()) &&
+                Objects.equals(obj.getSchemaVersion(), other.getSchemaVersion()) &&
+                Objects.equals(obj.getBootstrapped(), other.getBootstrapped()) &&
+                Objects.equals(obj.getNativeProtocolVersion(), other.getNativeProtocolVersion()) &&
+                Objects.equals(obj.getDseVersion(), other.getDseVersion()) &&
+                Objects.equals(obj.getPartitioner(), other.getPartitioner()) &&
+                Objects.equals(obj.getListenAddress(), other.getListenAddress()) &&
+                Objects.equals(obj.getTokens(), other.getTokens()) &&
+                Objects.equals(obj.getReleaseVersion(), other.getReleaseVersion()) &&
+                Objects.equals(obj.getGossipGeneration(), other.getGossipGeneration()) &&
+                Objects.equals(obj.getThriftVersion(), other.getThriftVersion());
+    }
+
+    @Override
+    public int hashCode(NodeMetaData obj) {
+        int hash = 1;
+        hash = 31 * hash + Objects.hashCode(obj.getKey());
+        hash = 31 * hash + Objects.hashCode(obj.getClusterName());
+        hash = 31 * hash + Objects.hashCode(obj.getRack());
+        hash = 31 * hash + Objects.hashCode(obj.getTruncatedAt());
+        hash = 31 * hash + Objects.hashCode(obj.getCqlVersion());
+        hash = 31 * hash + Objects.hashCode(obj.getWorkloads());
+        hash = 31 * hash + Objects.hashCode(obj.getWorkload());
+        hash = 31 * hash + Objects.hashCode(obj.getDataCenter());
+        hash = 31 * hash + Objects.hashCode(obj.getServerId());
+        hash = 31 * hash + Objects.hashCode(obj.getRpcAddress());
+        hash = 31 * hash + Objects.hashCode(obj.getBroadcastAddress());
+        hash = 31 * hash + Objects.hashCode(obj.getGraph());
+        hash = 31 * hash + Objects.hashCode(obj.getHostId());
+        hash = 31 * hash + Objects.hashCode(obj.getSchemaVersion());
+        hash = 31 * hash + Objects.hashCode(obj.getBootstrapped());
+        hash = 31 * hash + Objects.hashCode(obj.getNativeProtocolVersion());
+        hash = 31 * hash + Objects.hashCode(obj.getDseVersion());
+        hash = 31 * hash + Objects.hashCode(obj.getPartitioner());
+        hash = 31 * hash + Objects.hashCode(obj.getListenAddress());
+        hash = 31 * hash + Objects.hashCode(obj.getTokens());
+        hash = 31 * hash + Objects.hashCode(obj.getReleaseVersion());
+        hash = 31 * hash + Objects.hashCode(obj.getGossipGeneration());
+        hash = 31 * hash + Objects.hashCode(obj.getThriftVersion());
+        return hash;
+    }
+
+    @Override
+    public String toString(NodeMetaData obj) {
+        return CasquatchObjectMapper.toJson(obj);
+    }
+
+    @Override
+    public NodeMetaData keys(NodeMetaData obj) {
+        NodeMetaData nodeMetaData = new NodeMetaData();
+        nodeMetaData.setKey(obj.getKey());
+        return nodeMetaData;
+    }
+}
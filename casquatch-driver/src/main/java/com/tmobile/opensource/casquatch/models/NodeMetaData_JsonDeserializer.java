@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tmobile.opensource.casquatch.models;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.tmobile.opensource.casquatch.CasquatchJsonDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Generated: Json deserializer of NodeMetaData
+ */
+public final class NodeMetaData_JsonDeserializer extends CasquatchJsonDeserializer<NodeMetaData> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final JavaType TRUNCATED_AT = TypeFactory.defaultInstance().constructType(new TypeReference<java.util.Map<java.util.UUID,java.nio.ByteBuffer>>() {});
+    private static final JavaType WORKLOADS = TypeFactory.defaultInstance().constructType(new TypeReference<java.util.Set<java.lang.String>>() {});
+    private static final JavaType RPC_ADDRESS = TypeFactory.defaultInstance().constructType(java.net.InetAddress.class);
+    private static final JavaType BROADCAST_ADDRESS = TypeFactory.defaultInstance().constructType(java.net.InetAddress.class);
+    private static final JavaType LISTEN_ADDRESS = TypeFactory.defaultInstance().constructType(java.net.InetAddress.class);
+    private static final JavaType TOKENS = TypeFactory.defaultInstance().constructType(new TypeReference<java.util.Set<java.lang.String>>() {});
+
+    public NodeMetaData_JsonDeserializer() {
+        super(NodeMetaData.class);
+    }
+
+    @Override
+    protected NodeMetaData newEntity() {
+        return new NodeMetaData();
+    }
+
+    @Override
+    protected boolean deserializeField(NodeMetaData obj, String name, JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch(name) {
+            case "key":
+                obj.setKey(readString(p, ctxt));
+                return true;
+            case "clusterName":
+                obj.setClusterName(readString(p, ctxt));
+                return true;
+            case "rack":
+                obj.setRack(readString(p, ctxt));
+                return true;
+            case "truncatedAt":
+                obj.setTruncatedAt(readValue(p, ctxt, TRUNCATED_AT));
+                return true;
+            case "cqlVersion":
+                obj.setCqlVersion(readString(p, ctxt));
+                return true;
+            case "workloads":
+                obj.setWorkloads(readValue(p, ctxt, WORKLOADS));
+                return true;
+            case "workload":
+                obj.setWorkload(readString(p, ctxt));
+                return true;
+            case "dataCenter":
+                obj.setDataCenter(readString(p, ctxt));
+                return true;
+            case "serverId":
+                obj.setServerId(readString(p, ctxt));
+                return true;
+            case "rpcAddress":
+                obj.setRpcAddress(readValue(p, ctxt, RPC_ADDRESS));
+                return true;
+            case "broadcastAddress":
+                obj.setBroadcastAddress(readValue(p, ctxt, BROADCAST_ADDRESS));
+                return true;
+            case "graph":
+                obj.setGraph(readBoolean(p, ctxt));
+                return true;
+            case "hostId":
+                obj.setHostId(readUUID(p, ctxt));
+                return true;
+            case "schemaVersion":
+                obj.setSchemaVersion(readUUID(p, ctxt));
+                return true;
+            case "bootstrapped":
+                obj.setBootstrapped(readString(p, ctxt));
+                return true;
+            case "nativeProtocolVersion":
+                obj.setNativeProtocolVersion(readString(p, ctxt));
+                return true;
+            case "dseVersion":
+                obj.setDseVersion(readString(p, ctxt));
+                return true;
+            case "partitioner":
+                obj.setPartitioner(readString(p, ctxt));
+                return true;
+            case "listenAddress":
+                obj.setListenAddress(readValue(p, ctxt, LISTEN_ADDRESS));
+                return true;
+            case "tokens":
+                obj.setTokens(readValue(p, ctxt, TOKENS));
+                return true;
+            case "releaseVersion":
+                obj.setReleaseVersion(readString(p, ctxt));
+                return true;
+            case "gossipGeneration":
+                obj.setGossipGeneration(readInteger(p, ctxt));
+                return true;
+            case "thriftVersion":
+                obj.setThriftVersion(readString(p, ctxt));
+                return true;
+            default:
+                return false;
+        }
+    }
+}
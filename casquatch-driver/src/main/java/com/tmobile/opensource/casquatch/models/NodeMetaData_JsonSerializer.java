@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tmobile.opensource.casquatch.models;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.tmobile.opensource.casquatch.CasquatchJsonSerializer;
+
+import java.io.IOException;
+
+/**
+ * Generated: Json serializer of NodeMetaData
+ */
+public final class NodeMetaData_JsonSerializer extends CasquatchJsonSerializer<NodeMetaData> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializedString KEY = new SerializedString("key");
+    private static final SerializedString CLUSTER_NAME = new SerializedString("clusterName");
+    private static final SerializedString RACK = new SerializedString("rack");
+    private static final SerializedString TRUNCATED_AT = new SerializedString("truncatedAt");
+    private static final SerializedString CQL_VERSION = new SerializedString("cqlVersion");
+    private static final SerializedString WORKLOADS = new SerializedString("workloads");
+    private static final SerializedString WORKLOAD = new SerializedString("workload");
+    private static final SerializedString DATA_CENTER = new SerializedString("dataCenter");
+    private static final SerializedString SERVER_ID = new SerializedString("serverId");
+    private static final SerializedString RPC_ADDRESS = new SerializedString("rpcAddress");
+    private static final SerializedString BROADCAST_ADDRESS = new SerializedString("broadcastAddress");
+    private static final SerializedString GRAPH = new SerializedString("graph");
+    private static final SerializedString HOST_ID = new SerializedString("hostId");
+    private static final SerializedString SCHEMA_VERSION = new SerializedString("schemaVersion");
+    private static final SerializedString BOOTSTRAPPED = new SerializedString("bootstrapped");
+    private static final SerializedString NATIVE_PROTOCOL_VERSION = new SerializedString("nativeProtocolVersion");
+    private static final SerializedString DSE_VERSION = new SerializedString("dseVersion");
+    private static final SerializedString PARTITIONER = new SerializedString("partitioner");
+    private static final SerializedString LISTEN_ADDRESS = new SerializedString("listenAddress");
+    private static final SerializedString TOKENS = new SerializedString("tokens");
+    private static final SerializedString RELEASE_VERSION = new SerializedString("releaseVersion");
+    private static final SerializedString GOSSIP_GENERATION = new SerializedString("gossipGeneration");
+    private static final SerializedString THRIFT_VERSION = new SerializedString("thriftVersion");
+
+    public NodeMetaData_JsonSerializer() {
+        super(NodeMetaData.class);
+    }
+
+    @Override
+    protected void serializeFields(NodeMetaData obj, JsonGenerator gen, SerializerProvider provider, boolean writeNulls) throws IOException {
+        writeField(gen, provider, writeNulls, KEY, obj.getKey());
+        writeField(gen, provider, writeNulls, CLUSTER_NAME, obj.getClusterName());
+        writeField(gen, provider, writeNulls, RACK, obj.getRack());
+        writeField(gen, provider, writeNulls, TRUNCATED_AT, obj.getTruncatedAt());
+        writeField(gen, provider, writeNulls, CQL_VERSION, obj.getCqlVersion());
+        writeField(gen, provider, writeNulls, WORKLOADS, obj.getWorkloads());
+        writeField(gen, provider, writeNulls, WORKLOAD, obj.getWorkload());
+        writeField(gen, provider, writeNulls, DATA_CENTER, obj.getDataCenter());
+        writeField(gen, provider, writeNulls, SERVER_ID, obj.getServerId());
+        writeField(gen, provider, writeNulls, RPC_ADDRESS, obj.getRpcAddress());
+        writeField(gen, provider, writeNulls, BROADCAST_ADDRESS, obj.getBroadcastAddress());
+        writeField(gen, provider, writeNulls, GRAPH, obj.getGraph());
+        writeField(gen, provider, writeNulls, HOST_ID, obj.getHostId());
+        writeField(gen, provider, writeNulls, SCHEMA_VERSION, obj.getSchemaVersion());
+        writeField(gen, provider, writeNulls, BOOTSTRAPPED, obj.getBootstrapped());
+        writeField(gen, provider, writeNulls, NATIVE_PROTOCOL_VERSION, obj.getNativeProtocolVersion());
+        writeField(gen, provider, writeNulls, DSE_VERSION, obj.getDseVersion());
+        writeField(gen, provider, writeNulls, PARTITIONER, obj.getPartitioner());
+        writeField(gen, provider, writeNulls, LISTEN_ADDRESS, obj.getListenAddress());
+        writeField(gen, provider, writeNulls, TOKENS, obj.getTokens());
+        writeField(gen, provider, writeNulls, RELEASE_VERSION, obj.getReleaseVersion());
+        writeField(gen, provider, writeNulls, GOSSIP_GENERATION, obj.getGossipGeneration());
+        writeField(gen, provider, writeNulls, THRIFT_VERSION, obj.getThriftVersion());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 T-Mobile US, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tmobile.opensource.casquatch.models;
+
+import java.util.Objects;
+
+/**
+ * Generated: Immutable primary key of NodeMetaData with a precomputed hash
+ */
+public final class NodeMetaData_Key {
+
+    private final String key;
+    private final int keyHash;
+
+    /**
+     * Generated: Initialize from the key columns of an object
+     * @param nodeMetaData populated object
+     */
+    public NodeMetaData_Key(NodeMetaData nodeMetaData) {
+        this.key = nodeMetaData.getKey();
+        int keyHash = 1;
+        keyHash = 31 * keyHash + Objects.hashCode(this.key);
+        this.keyHash = keyHash;
+    }
+
+    public String getKey() {
+        return this.key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NodeMetaData_Key)) {
+            return false;
+        }
+        NodeMetaData_Key other = (NodeMetaData_Key) o;
+        return this.keyHash == other.keyHash && Objects.equals(this.key, other.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.keyHash;
+    }
+
+    @Override
+    public String toString() {
+        return "NodeMetaData_Key(key=" + this.key + ")";
+    }
+}
@@ -19,256 +19,407 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
 import com.datastax.oss.driver.api.core.data.GettableByName;
-import com.datastax.oss.driver.api.querybuilder.delete.Delete;
-import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
-import com.datastax.oss.driver.api.querybuilder.select.Select;
 import com.tmobile.opensource.casquatch.AbstractStatementFactory;
+import com.tmobile.opensource.casquatch.DriverException;
 import com.tmobile.opensource.casquatch.QueryOptions;
 import lombok.extern.slf4j.Slf4j;
 
 import java.net.InetAddress;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
-import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
-
 @Slf4j
 public class NodeMetaData_StatementFactory extends AbstractStatementFactory<NodeMetaData> {
 
+    private static final String[] COLUMNS = new String[] {
+            "key",
+            "gossip_generation",
+            "rack",
+            "schema_version",
+            "thrift_version",
+            "data_center",
+            "rpc_address",
+            "release_version",
+            "workloads",
+            "workload",
+            "host_id",
+            "server_id",
+            "graph",
+            "truncated_at",
+            "broadcast_address",
+            "dse_version",
+            "cql_version",
+            "bootstrapped",
+            "native_protocol_version",
+            "listen_address",
+            "cluster_name",
+            "partitioner",
+            "tokens",
+    };
 
     public NodeMetaData_StatementFactory(CqlSession session) {
         super(NodeMetaData.class,session);
     }
 
     @Override
-    protected Select selectWhereObject(Select select, NodeMetaData nodeMetaData, QueryOptions options) {
-
+    protected BitSet selectColumns(NodeMetaData nodeMetaData, QueryOptions options) {
+        BitSet columns = new BitSet(COLUMNS.length);
         if(nodeMetaData.getKey()!=null) {
-            select=select.whereColumn("key").isEqualTo(bindMarker());
+            columns.set(0);
         }
         if(!options.getIgnoreNonPrimaryKeys()) {
             if(nodeMetaData.getGossipGeneration()!=null) {
-                select=select.whereColumn("gossip_generation").isEqualTo(bindMarker());
+                columns.set(1);
             }
             if(nodeMetaData.getRack()!=null) {
-                select=select.whereColumn("rack").isEqualTo(bindMarker());
+                columns.set(2);
             }
             if(nodeMetaData.getSchemaVersion()!=null) {
-                select=select.whereColumn("schema_version").isEqualTo(bindMarker());
+                columns.set(3);
             }
             if(nodeMetaData.getThriftVersion()!=null) {
-                select=select.whereColumn("thrift_version").isEqualTo(bindMarker());
+                columns.set(4);
             }
             if(nodeMetaData.getDataCenter()!=null) {
-                select=select.whereColumn("data_center").isEqualTo(bindMarker());
+                columns.set(5);
             }
             if(nodeMetaData.getRpcAddress()!=null) {
-                select=select.whereColumn("rpc_address").isEqualTo(bindMarker());
+                columns.set(6);
             }
             if(nodeMetaData.getReleaseVersion()!=null) {
-                select=select.whereColumn("release_version").isEqualTo(bindMarker());
+                columns.set(7);
             }
             if(nodeMetaData.getWorkloads()!=null) {
-                select=select.whereColumn("workloads").isEqualTo(bindMarker());
+                if(!allowQueryByType(Set.class)) {
+                    log.warn("Ignorning column workloads. Set is not a supported query column type");
+                }
+                else {
+                    columns.set(8);
+                }
             }
             if(nodeMetaData.getWorkload()!=null) {
-                select=select.whereColumn("workload").isEqualTo(bindMarker());
+                columns.set(9);
             }
             if(nodeMetaData.getHostId()!=null) {
-                select=select.whereColumn("host_id").isEqualTo(bindMarker());
+                columns.set(10);
             }
             if(nodeMetaData.getServerId()!=null) {
-                select=select.whereColumn("server_id").isEqualTo(bindMarker());
+                columns.set(11);
             }
             if(nodeMetaData.getGraph()!=null) {
-                select=select.whereColumn("graph").isEqualTo(bindMarker());
+                columns.set(12);
             }
             if(nodeMetaData.getTruncatedAt()!=null) {
-                select=select.whereColumn("truncated_at").isEqualTo(bindMarker());
+                if(!allowQueryByType(Map.class)) {
+                    log.warn("Ignorning column truncated_at. Map is not a supported query column type");
+                }
+                else {
+                    columns.set(13);
+                }
             }
             if(nodeMetaData.getBroadcastAddress()!=null) {
-                select=select.whereColumn("broadcast_address").isEqualTo(bindMarker());
+                columns.set(14);
             }
             if(nodeMetaData.getDseVersion()!=null) {
-                select=select.whereColumn("dse_version").isEqualTo(bindMarker());
+                columns.set(15);
             }
             if(nodeMetaData.getCqlVersion()!=null) {
-                select=select.whereColumn("cql_version").isEqualTo(bindMarker());
+                columns.set(16);
             }
             if(nodeMetaData.getBootstrapped()!=null) {
-                select=select.whereColumn("bootstrapped").isEqualTo(bindMarker());
+                columns.set(17);
             }
             if(nodeMetaData.getNativeProtocolVersion()!=null) {
-                select=select.whereColumn("native_protocol_version").isEqualTo(bindMarker());
+                columns.set(18);
             }
             if(nodeMetaData.getListenAddress()!=null) {
-                select=select.whereColumn("listen_address").isEqualTo(bindMarker());
+                columns.set(19);
             }
             if(nodeMetaData.getClusterName()!=null) {
-                select=select.whereColumn("cluster_name").isEqualTo(bindMarker());
+                columns.set(20);
             }
             if(nodeMetaData.getPartitioner()!=null) {
-                select=select.whereColumn("partitioner").isEqualTo(bindMarker());
+                columns.set(21);
             }
             if(nodeMetaData.getTokens()!=null) {
-                select=select.whereColumn("tokens").isEqualTo(bindMarker());
+                if(!allowQueryByType(Set.class)) {
+                    log.warn("Ignorning column tokens. Set is not a supported query column type");
+                }
+                else {
+                    columns.set(22);
+                }
             }
         }
-        return select;
+        return columns;
     }
 
     @Override
-    protected RegularInsert insertObject(NodeMetaData nodeMetaData, QueryOptions options) {
-        RegularInsert insert=null;
+    protected BitSet insertColumns(NodeMetaData nodeMetaData, QueryOptions options) {
+        BitSet columns = new BitSet(COLUMNS.length);
         if(nodeMetaData.getKey()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("key",bindMarker());
+            columns.set(0);
         }
         if(nodeMetaData.getGossipGeneration()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("gossip_generation",bindMarker());
+            columns.set(1);
         }
         if(nodeMetaData.getRack()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("rack",bindMarker());
+            columns.set(2);
         }
         if(nodeMetaData.getSchemaVersion()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("schema_version",bindMarker());
+            columns.set(3);
         }
         if(nodeMetaData.getThriftVersion()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("thrift_version",bindMarker());
+            columns.set(4);
         }
         if(nodeMetaData.getDataCenter()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("data_center",bindMarker());
+            columns.set(5);
         }
         if(nodeMetaData.getRpcAddress()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("rpc_address",bindMarker());
+            columns.set(6);
         }
         if(nodeMetaData.getReleaseVersion()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("release_version",bindMarker());
+            columns.set(7);
         }
         if(nodeMetaData.getWorkloads()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("workloads",bindMarker());
+            columns.set(8);
         }
         if(nodeMetaData.getWorkload()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("workload",bindMarker());
+            columns.set(9);
         }
         if(nodeMetaData.getHostId()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("host_id",bindMarker());
+            columns.set(10);
         }
         if(nodeMetaData.getServerId()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("server_id",bindMarker());
+            columns.set(11);
         }
         if(nodeMetaData.getGraph()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("graph",bindMarker());
+            columns.set(12);
         }
         if(nodeMetaData.getTruncatedAt()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("truncated_at",bindMarker());
+            columns.set(13);
         }
         if(nodeMetaData.getBroadcastAddress()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("broadcast_address",bindMarker());
+            columns.set(14);
         }
         if(nodeMetaData.getDseVersion()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("dse_version",bindMarker());
+            columns.set(15);
         }
         if(nodeMetaData.getCqlVersion()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("cql_version",bindMarker());
+            columns.set(16);
         }
         if(nodeMetaData.getBootstrapped()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("bootstrapped",bindMarker());
+            columns.set(17);
         }
         if(nodeMetaData.getNativeProtocolVersion()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("native_protocol_version",bindMarker());
+            columns.set(18);
         }
         if(nodeMetaData.getListenAddress()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("listen_address",bindMarker());
+            columns.set(19);
         }
         if(nodeMetaData.getClusterName()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("cluster_name",bindMarker());
+            columns.set(20);
         }
         if(nodeMetaData.getPartitioner()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("partitioner",bindMarker());
+            columns.set(21);
         }
         if(nodeMetaData.getTokens()!=null || options.getPersistNulls()) {
-            insert=(insert==null?insertStart:insert).value("tokens",bindMarker());
+            columns.set(22);
         }
-        return insert;
+        return columns;
     }
 
     @Override
-    protected Delete deleteObject(NodeMetaData nodeMetaData, QueryOptions options) {
-        Delete delete=null;
-
+    protected BitSet deleteColumns(NodeMetaData nodeMetaData, QueryOptions options) {
+        BitSet columns = new BitSet(COLUMNS.length);
         if(nodeMetaData.getKey()!=null) {
-            delete=(delete==null?deleteStart:delete).whereColumn("key").isEqualTo(bindMarker());
-       }
-        if(!options.getIgnoreNonPrimaryKeys()) {
-            if(nodeMetaData.getGossipGeneration()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("gossip_generation").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getRack()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("rack").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getSchemaVersion()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("schema_version").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getThriftVersion()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("thrift_version").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getDataCenter()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("data_center").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getRpcAddress()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("rpc_address").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getReleaseVersion()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("release_version").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getWorkloads()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("workloads").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getWorkload()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("workload").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getHostId()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("host_id").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getServerId()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("server_id").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getGraph()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("graph").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getTruncatedAt()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("truncated_at").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getBroadcastAddress()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("broadcast_address").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getDseVersion()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("dse_version").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getCqlVersion()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("cql_version").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getBootstrapped()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("bootstrapped").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getNativeProtocolVersion()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("native_protocol_version").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getListenAddress()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("listen_address").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getClusterName()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("cluster_name").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getPartitioner()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("partitioner").isEqualTo(bindMarker());
-            }
-            if(nodeMetaData.getTokens()!=null) {
-                delete=(delete==null?deleteStart:delete).whereColumn("tokens").isEqualTo(bindMarker());
-            }
+            columns.set(0);
+        }
+        return columns;
+    }
+
+    @Override
+    public String[] getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected Object getColumnValue(NodeMetaData nodeMetaData, int index) {
+        switch(index) {
+            case 0:
+                return nodeMetaData.getKey();
+            case 1:
+                return nodeMetaData.getGossipGeneration();
+            case 2:
+                return nodeMetaData.getRack();
+            case 3:
+                return nodeMetaData.getSchemaVersion();
+            case 4:
+                return nodeMetaData.getThriftVersion();
+            case 5:
+                return nodeMetaData.getDataCenter();
+            case 6:
+                return nodeMetaData.getRpcAddress();
+            case 7:
+                return nodeMetaData.getReleaseVersion();
+            case 8:
+                return nodeMetaData.getWorkloads();
+            case 9:
+                return nodeMetaData.getWorkload();
+            case 10:
+                return nodeMetaData.getHostId();
+            case 11:
+                return nodeMetaData.getServerId();
+            case 12:
+                return nodeMetaData.getGraph();
+            case 13:
+                return nodeMetaData.getTruncatedAt();
+            case 14:
+                return nodeMetaData.getBroadcastAddress();
+            case 15:
+                return nodeMetaData.getDseVersion();
+            case 16:
+                return nodeMetaData.getCqlVersion();
+            case 17:
+                return nodeMetaData.getBootstrapped();
+            case 18:
+                return nodeMetaData.getNativeProtocolVersion();
+            case 19:
+                return nodeMetaData.getListenAddress();
+            case 20:
+                return nodeMetaData.getClusterName();
+            case 21:
+                return nodeMetaData.getPartitioner();
+            case 22:
+                return nodeMetaData.getTokens();
+            default:
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Invalid column " + index);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void setColumnValue(NodeMetaData nodeMetaData, int index, Object value) {
+        switch(index) {
+            case 0:
+                nodeMetaData.setKey((String) value);
+                break;
+            case 1:
+                nodeMetaData.setGossipGeneration((Integer) value);
+                break;
+            case 2:
+                nodeMetaData.setRack((String) value);
+                break;
+            case 3:
+                nodeMetaData.setSchemaVersion((UUID) value);
+                break;
+            case 4:
+                nodeMetaData.setThriftVersion((String) value);
+                break;
+            case 5:
+                nodeMetaData.setDataCenter((String) value);
+                break;
+            case 6:
+                nodeMetaData.setRpcAddress((InetAddress) value);
+                break;
+            case 7:
+                nodeMetaData.setReleaseVersion((String) value);
+                break;
+            case 8:
+                nodeMetaData.setWorkloads((Set) value);
+                break;
+            case 9:
+                nodeMetaData.setWorkload((String) value);
+                break;
+            case 10:
+                nodeMetaData.setHostId((UUID) value);
+                break;
+            case 11:
+                nodeMetaData.setServerId((String) value);
+                break;
+            case 12:
+                nodeMetaData.setGraph((Boolean) value);
+                break;
+            case 13:
+                nodeMetaData.setTruncatedAt((Map) value);
+                break;
+            case 14:
+                nodeMetaData.setBroadcastAddress((InetAddress) value);
+                break;
+            case 15:
+                nodeMetaData.setDseVersion((String) value);
+                break;
+            case 16:
+                nodeMetaData.setCqlVersion((String) value);
+                break;
+            case 17:
+                nodeMetaData.setBootstrapped((String) value);
+                break;
+            case 18:
+                nodeMetaData.setNativeProtocolVersion((String) value);
+                break;
+            case 19:
+                nodeMetaData.setListenAddress((InetAddress) value);
+                break;
+            case 20:
+                nodeMetaData.setClusterName((String) value);
+                break;
+            case 21:
+                nodeMetaData.setPartitioner((String) value);
+                break;
+            case 22:
+                nodeMetaData.setTokens((Set) value);
+                break;
+            default:
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Invalid column " + index);
+        }
+    }
+
+    @Override
+    protected NodeMetaData newEntity() {
+        return new NodeMetaData();
+    }
+
+    @Override
+    protected NodeMetaData_Key key(NodeMetaData nodeMetaData) {
+        return new NodeMetaData_Key(nodeMetaData);
+    }
+
+    @Override
+    protected Object partitionKey(NodeMetaData nodeMetaData) {
+        return Collections.singletonList(nodeMetaData.getKey());
+    }
+
+    @Override
+    public int getKeyColumnCount() {
+        return 1;
+    }
+
+    @Override
+    public int getPartitionKeyCount() {
+        return 1;
+    }
+
+    @Override
+    protected Object getKeyValue(NodeMetaData nodeMetaData, int index) {
+        switch(index) {
+            case 0:
+                return nodeMetaData.getKey();
+            default:
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Invalid key column " + index);
+        }
+    }
+
+    @Override
+    protected Class<?> getKeyType(int index) {
+        switch(index) {
+            case 0:
+                return String.class;
+            default:
+                throw new DriverException(DriverException.CATEGORIES.CASQUATCH_MISSING_PARAMETER, "Invalid key column " + index);
         }
-        return delete;
     }
 
     @Override
@@ -277,77 +428,76 @@ public class NodeMetaData_StatementFactory extends AbstractStatementFactory<Node
     }
 
     @Override
-    protected BoundStatementBuilder bindObject(BoundStatementBuilder boundStatementBuilder, NodeMetaData nodeMetaData, QueryOptions options) {
-        if(nodeMetaData.getKey()!=null || options.getPersistNulls()) {
-            boundStatementBuilder = boundStatementBuilder.set("key", nodeMetaData.getKey(), String.class);
+    protected BoundStatementBuilder bindObject(BoundStatementBuilder boundStatementBuilder, NodeMetaData nodeMetaData, BitSet columns) {
+        int index=0;
+        if(columns.get(0)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getKey(), String.class);
         }
-        if(!options.getIgnoreNonPrimaryKeys()) {
-            if(nodeMetaData.getGossipGeneration()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("gossip_generation", nodeMetaData.getGossipGeneration(), Integer.class);
-            }
-            if(nodeMetaData.getRack()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("rack", nodeMetaData.getRack(), String.class);
-            }
-            if(nodeMetaData.getSchemaVersion()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("schema_version", nodeMetaData.getSchemaVersion(), UUID.class);
-            }
-            if(nodeMetaData.getThriftVersion()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("thrift_version", nodeMetaData.getThriftVersion(), String.class);
-            }
-            if(nodeMetaData.getDataCenter()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("data_center", nodeMetaData.getDataCenter(), String.class);
-            }
-            if(nodeMetaData.getRpcAddress()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("rpc_address", nodeMetaData.getRpcAddress(), InetAddress.class);
-            }
-            if(nodeMetaData.getReleaseVersion()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("release_version", nodeMetaData.getReleaseVersion(), String.class);
-            }
-            if(nodeMetaData.getWorkloads()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("workloads", nodeMetaData.getWorkloads(), Set.class);
-            }
-            if(nodeMetaData.getWorkload()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("workload", nodeMetaData.getWorkload(), String.class);
-            }
-            if(nodeMetaData.getHostId()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("host_id", nodeMetaData.getHostId(), UUID.class);
-            }
-            if(nodeMetaData.getServerId()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("server_id", nodeMetaData.getServerId(), String.class);
-            }
-            if(nodeMetaData.getGraph()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("graph", nodeMetaData.getGraph(), Boolean.class);
-            }
-            if(nodeMetaData.getTruncatedAt()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("truncated_at", nodeMetaData.getTruncatedAt(), Map.class);
-            }
-            if(nodeMetaData.getBroadcastAddress()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("broadcast_address", nodeMetaData.getBroadcastAddress(), InetAddress.class);
-            }
-            if(nodeMetaData.getDseVersion()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("dse_version", nodeMetaData.getDseVersion(), String.class);
-            }
-            if(nodeMetaData.getCqlVersion()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("cql_version", nodeMetaData.getCqlVersion(), String.class);
-            }
-            if(nodeMetaData.getBootstrapped()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("bootstrapped", nodeMetaData.getBootstrapped(), String.class);
-            }
-            if(nodeMetaData.getNativeProtocolVersion()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("native_protocol_version", nodeMetaData.getNativeProtocolVersion(), String.class);
-            }
-            if(nodeMetaData.getListenAddress()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("listen_address", nodeMetaData.getListenAddress(), InetAddress.class);
-            }
-            if(nodeMetaData.getClusterName()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("cluster_name", nodeMetaData.getClusterName(), String.class);
-            }
-            if(nodeMetaData.getPartitioner()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("partitioner", nodeMetaData.getPartitioner(), String.class);
-            }
-            if(nodeMetaData.getTokens()!=null || options.getPersistNulls()) {
-                boundStatementBuilder = boundStatementBuilder.set("tokens", nodeMetaData.getTokens(), Set.class);
-            }
+        if(columns.get(1)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getGossipGeneration(), Integer.class);
+        }
+        if(columns.get(2)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getRack(), String.class);
+        }
+        if(columns.get(3)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getSchemaVersion(), UUID.class);
+        }
+        if(columns.get(4)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getThriftVersion(), String.class);
+        }
+        if(columns.get(5)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getDataCenter(), String.class);
+        }
+        if(columns.get(6)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getRpcAddress(), InetAddress.class);
+        }
+        if(columns.get(7)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getReleaseVersion(), String.class);
+        }
+        if(columns.get(8)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getWorkloads(), Set.class);
+        }
+        if(columns.get(9)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getWorkload(), String.class);
+        }
+        if(columns.get(10)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getHostId(), UUID.class);
+        }
+        if(columns.get(11)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getServerId(), String.class);
+        }
+        if(columns.get(12)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getGraph(), Boolean.class);
+        }
+        if(columns.get(13)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getTruncatedAt(), Map.class);
+        }
+        if(columns.get(14)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getBroadcastAddress(), InetAddress.class);
+        }
+        if(columns.get(15)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getDseVersion(), String.class);
+        }
+        if(columns.get(16)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getCqlVersion(), String.class);
+        }
+        if(columns.get(17)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getBootstrapped(), String.class);
+        }
+        if(columns.get(18)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getNativeProtocolVersion(), String.class);
+        }
+        if(columns.get(19)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getListenAddress(), InetAddress.class);
+        }
+        if(columns.get(20)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getClusterName(), String.class);
+        }
+        if(columns.get(21)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getPartitioner(), String.class);
+        }
+        if(columns.get(22)) {
+            boundStatementBuilder = bindIndex(boundStatementBuilder, index++, nodeMetaData.getTokens(), Set.class);
         }
         return boundStatementBuilder;
     }